@@ -0,0 +1,97 @@
+package mdpa.gdpr.analysis;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import mdpa.gdpr.analysis.resource.ResourceFormat;
+import mdpa.gdpr.metamodel.GDPR.GDPRPackage;
+import mdpa.gdpr.metamodel.contextproperties.ContextpropertiesPackage;
+import org.apache.log4j.Logger;
+import org.eclipse.core.runtime.Plugin;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.plugin.EcorePlugin;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.URIConverter;
+import tools.mdsd.library.standalone.initialization.StandaloneInitializationException;
+import tools.mdsd.library.standalone.initialization.StandaloneInitializerBuilder;
+
+/**
+ * Process-wide standalone environment shared by all {@link GDPRLegalAssessmentAnalysis} instances.
+ * <p/>
+ * The environment processes the EMF extensions, initializes the standalone environment of the analysis plugin and
+ * registers the GDPR and context property packages exactly once per JVM. Each model project is registered on its first
+ * use. Therefore, only the first analysis pays for the initialization and later analyses of the same or other models
+ * reuse it. All methods are thread-safe
+ */
+public final class GDPRAnalysisEnvironment {
+    private static final Logger logger = Logger.getLogger(GDPRAnalysisEnvironment.class);
+    private static final Set<String> registeredModelProjects = ConcurrentHashMap.newKeySet();
+    private static volatile boolean initialized = false;
+
+    private GDPRAnalysisEnvironment() {
+    }
+
+    /**
+     * Initializes the standalone environment of the analysis, if it has not been initialized yet
+     * @throws StandaloneInitializationException Thrown if the standalone environment could not be initialized. In this
+     * case, a later call retries the initialization
+     */
+    public static void initialize() throws StandaloneInitializationException {
+        if (initialized) {
+            return;
+        }
+        synchronized (GDPRAnalysisEnvironment.class) {
+            if (initialized) {
+                return;
+            }
+            long start = System.nanoTime();
+            EcorePlugin.ExtensionProcessor.process(null);
+            StandaloneInitializerBuilder.builder()
+                    .registerProjectURI(GDPRLegalAssessmentAnalysis.class, GDPRLegalAssessmentAnalysis.PLUGIN_PATH)
+                    .build()
+                    .init();
+            EPackage.Registry.INSTANCE.put(GDPRPackage.eNS_URI, GDPRPackage.eINSTANCE);
+            EPackage.Registry.INSTANCE.put(ContextpropertiesPackage.eNS_URI, ContextpropertiesPackage.eINSTANCE);
+            Resource.Factory resourceFactory = ResourceFormat.createDetectingFactory(URIConverter.INSTANCE);
+            Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap()
+                    .putIfAbsent(GDPRPackage.eNAME, resourceFactory);
+            Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap()
+                    .putIfAbsent(ContextpropertiesPackage.eNAME, resourceFactory);
+            initialized = true;
+            logger.info("Initialized analysis environment in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        }
+    }
+
+    /**
+     * Registers the given model project in the standalone environment, if it has not been registered yet. Initializes
+     * the environment first, if required
+     * @param modelProjectActivator Plugin activator of the model project
+     * @param modelProjectName Name of the model project
+     * @throws StandaloneInitializationException Thrown if the environment or the model project could not be initialized
+     */
+    public static void registerModelProject(Class<? extends Plugin> modelProjectActivator, String modelProjectName)
+            throws StandaloneInitializationException {
+        initialize();
+        if (registeredModelProjects.contains(modelProjectName)) {
+            return;
+        }
+        synchronized (GDPRAnalysisEnvironment.class) {
+            if (registeredModelProjects.contains(modelProjectName)) {
+                return;
+            }
+            StandaloneInitializerBuilder.builder()
+                    .registerProjectURI(modelProjectActivator, modelProjectName)
+                    .build()
+                    .init();
+            registeredModelProjects.add(modelProjectName);
+            logger.info("Registered model project " + modelProjectName);
+        }
+    }
+
+    /**
+     * Returns whether the environment has already been initialized
+     * @return Returns true, if the environment is initialized. Otherwise, the method returns false
+     */
+    public static boolean isInitialized() {
+        return initialized;
+    }
+}
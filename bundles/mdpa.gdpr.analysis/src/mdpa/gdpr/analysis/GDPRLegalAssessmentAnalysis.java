@@ -1,16 +1,35 @@
 package mdpa.gdpr.analysis;
 
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import mdpa.gdpr.analysis.core.AnalysisMetrics;
+import mdpa.gdpr.analysis.core.AnalysisSettings;
+import mdpa.gdpr.analysis.core.ContextAttributeState;
+import mdpa.gdpr.analysis.core.ContextAttributeStateStatistics;
+import mdpa.gdpr.analysis.core.ModelChangeRecorder;
+import mdpa.gdpr.analysis.core.Violation;
 import mdpa.gdpr.analysis.resource.GDPRResourceProvider;
+import mdpa.gdpr.analysis.dfd.AnalysisSnapshot;
 import mdpa.gdpr.analysis.dfd.DFDGDPRFlowGraphCollection;
+import mdpa.gdpr.analysis.dfd.DFDGDPRTransposeFlowGraph;
+import mdpa.gdpr.analysis.dfd.DFDGDPRVertex;
+import mdpa.gdpr.analysis.dfd.MultiStateEvaluation;
+import mdpa.gdpr.analysis.jfr.QueryEvent;
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
 import org.dataflowanalysis.analysis.DataFlowConfidentialityAnalysis;
+import org.dataflowanalysis.analysis.core.AbstractVertex;
 import org.dataflowanalysis.analysis.core.FlowGraphCollection;
 import org.eclipse.core.runtime.Plugin;
-import org.eclipse.emf.ecore.plugin.EcorePlugin;
+import org.eclipse.emf.ecore.EObject;
 import tools.mdsd.library.standalone.initialization.StandaloneInitializationException;
-import tools.mdsd.library.standalone.initialization.StandaloneInitializerBuilder;
 
 /**
  * Extension of the {@link DataFlowConfidentialityAnalysis} for usage with the GDPR metamodel that is able to resolve
@@ -28,6 +47,7 @@ public class GDPRLegalAssessmentAnalysis extends DataFlowConfidentialityAnalysis
     private final GDPRResourceProvider resourceProvider;
     private final Optional<Class<? extends Plugin>> modelProjectActivator;
     private final String modelProjectName;
+    private final AnalysisSettings settings;
 
     /**
      * Create a new {@link GDPRLegalAssessmentAnalysis} with the given resource provider and optionally a modelling project
@@ -41,27 +61,46 @@ public class GDPRLegalAssessmentAnalysis extends DataFlowConfidentialityAnalysis
      */
     public GDPRLegalAssessmentAnalysis(GDPRResourceProvider resourceProvider, Optional<Class<? extends Plugin>> modelProjectActivator,
             String modelProjectName) {
+        this(resourceProvider, modelProjectActivator, modelProjectName, new AnalysisSettings());
+    }
+
+    /**
+     * Create a new {@link GDPRLegalAssessmentAnalysis} with the given resource provider, optionally a modelling project
+     * with a plugin activator and the given analysis settings
+     * <p/>
+     * Note: Do not create an instance of this class manually, use the {@link GDPRLegalAssessmentAnalysisBuilder} instead
+     * @param resourceProvider {@link GDPRResourceProvider} providing a metamodel instance of the GDPR and Context Property
+     * model
+     * @param modelProjectActivator Optional model project activator
+     * @param modelProjectName Optional model project name
+     * @param settings {@link AnalysisSettings} used when resolving and evaluating flow graphs
+     */
+    public GDPRLegalAssessmentAnalysis(GDPRResourceProvider resourceProvider, Optional<Class<? extends Plugin>> modelProjectActivator,
+            String modelProjectName, AnalysisSettings settings) {
         this.resourceProvider = resourceProvider;
         this.modelProjectActivator = modelProjectActivator;
         this.modelProjectName = modelProjectName;
+        this.settings = settings;
     }
 
+    /**
+     * Initializes the analysis and loads the required models.
+     * <p/>
+     * The standalone environment is shared by all analyses in the JVM and only initialized by the first analysis. See
+     * {@link GDPRAnalysisEnvironment}
+     */
     @Override
     public void initializeAnalysis() {
+        AnalysisMetrics metrics = this.settings.getMetrics();
+        long startTime = metrics.startTimer();
         this.resourceProvider.setupResources();
 
-        EcorePlugin.ExtensionProcessor.process(null);
-
         try {
             super.setupLoggers();
-            var initializationBuilder = StandaloneInitializerBuilder.builder()
-                    .registerProjectURI(GDPRLegalAssessmentAnalysis.class, PLUGIN_PATH);
-
-            this.modelProjectActivator
-                    .ifPresent(projectActivator -> initializationBuilder.registerProjectURI(projectActivator, this.modelProjectName));
-
-            initializationBuilder.build()
-                    .init();
+            GDPRAnalysisEnvironment.initialize();
+            if (this.modelProjectActivator.isPresent()) {
+                GDPRAnalysisEnvironment.registerModelProject(this.modelProjectActivator.get(), this.modelProjectName);
+            }
 
             logger.info("Successfully initialized standalone environment for the data flow analysis.");
 
@@ -75,11 +114,174 @@ public class GDPRLegalAssessmentAnalysis extends DataFlowConfidentialityAnalysis
             logger.error("Insufficient amount of resources loaded");
             throw new IllegalStateException("Could not initialize analysis");
         }
+        metrics.stopTimer(AnalysisMetrics.Phase.INITIALIZATION, startTime);
     }
 
     @Override
     public FlowGraphCollection findFlowGraphs() {
-        return new DFDGDPRFlowGraphCollection(this.resourceProvider);
+        return new DFDGDPRFlowGraphCollection(this.resourceProvider, this.settings);
+    }
+
+    /**
+     * Resolves and evaluates the given flow graphs and queries each evaluated alternate flow graph with the given
+     * constraint. The alternate flow graphs are streamed through the analysis one at a time instead of being collected
+     * first, which bounds the peak memory usage by the amount of flow graphs in flight. The consumer is called for the
+     * alternate flow graph of every state, even if the settings enable deduplication.
+     * <p/>
+     * If the {@link AnalysisSettings} of the analysis allow for parallelism, the consumer is called concurrently
+     * @param flowGraphs Flow graphs with unresolved context dependent attributes
+     * @param constraint Constraint that is checked at each vertex
+     * @param consumer Consumer that is called with each evaluated alternate flow graph and the vertices violating the
+     * constraint
+     * @return Returns the {@link ContextAttributeStateStatistics} of the state enumeration
+     * @see DFDGDPRFlowGraphCollection#resolveAndEvaluate(java.util.function.Consumer)
+     */
+    public ContextAttributeStateStatistics queryDataFlow(DFDGDPRFlowGraphCollection flowGraphs, Predicate<? super AbstractVertex<?>> constraint,
+            BiConsumer<DFDGDPRTransposeFlowGraph, List<DFDGDPRVertex>> consumer) {
+        return flowGraphs.resolveAndEvaluate(transposeFlowGraph -> consumer.accept(transposeFlowGraph, this.findViolatingVertices(transposeFlowGraph,
+                constraint)));
+    }
+
+    /**
+     * Searches the alternate flow graphs of the given flow graphs for violations of the given constraint. States are
+     * resolved, evaluated and checked one at a time and the search stops as soon as the given amount of violations is
+     * found.
+     * <p/>
+     * If the {@link AnalysisSettings} of the analysis allow for parallelism, the states are searched concurrently. In this
+     * case, the found violations are not necessarily the first ones in the order of the states
+     * @param flowGraphs Flow graphs with unresolved context dependent attributes
+     * @param constraint Constraint that is checked at each vertex
+     * @param limit Maximum amount of violations that should be found
+     * @return Returns a list of at most limit {@link Violation}s, each containing a violating alternate flow graph
+     * @see DFDGDPRFlowGraphCollection#searchAlternateFlowGraphs(java.util.function.Function, int)
+     */
+    public List<Violation> findViolations(DFDGDPRFlowGraphCollection flowGraphs, Predicate<? super AbstractVertex<?>> constraint, int limit) {
+        return flowGraphs.searchAlternateFlowGraphs(transposeFlowGraph -> {
+            List<DFDGDPRVertex> violations = this.findViolatingVertices(transposeFlowGraph, constraint);
+            if (violations.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(new Violation(transposeFlowGraph, violations));
+        }, limit);
+    }
+
+    /**
+     * Checks the given constraint at each vertex of the given evaluated alternate flow graph
+     * @param transposeFlowGraph Evaluated alternate flow graph
+     * @param constraint Constraint that is checked at each vertex
+     * @return Returns the vertices violating the constraint
+     */
+    private List<DFDGDPRVertex> findViolatingVertices(DFDGDPRTransposeFlowGraph transposeFlowGraph, Predicate<? super AbstractVertex<?>> constraint) {
+        QueryEvent event = new QueryEvent();
+        event.begin();
+        List<DFDGDPRVertex> violations = this.queryDataFlow(transposeFlowGraph, constraint)
+                .stream()
+                .map(DFDGDPRVertex.class::cast)
+                .toList();
+        event.commit(transposeFlowGraph, violations.size());
+        return violations;
+    }
+
+    /**
+     * Determines the states of context dependent attributes in which the given constraint is violated. All states of each
+     * transpose flow graph are evaluated in one pass and the constraint is checked once per distinct evaluated vertex
+     * instead of once per state
+     * @param flowGraphs Flow graphs with unresolved context dependent attributes
+     * @param constraint Constraint that is checked at each vertex
+     * @return Returns the violating {@link ContextAttributeState}s of each transpose flow graph that has a violation
+     * @see DFDGDPRFlowGraphCollection#evaluateStates()
+     */
+    public Map<DFDGDPRTransposeFlowGraph, List<ContextAttributeState>> findViolatingStates(DFDGDPRFlowGraphCollection flowGraphs,
+            Predicate<? super AbstractVertex<?>> constraint) {
+        Map<DFDGDPRTransposeFlowGraph, List<ContextAttributeState>> violatingStates = new LinkedHashMap<>();
+        for (MultiStateEvaluation evaluation : flowGraphs.evaluateStates()) {
+            BitSet states = evaluation.findViolatingStates(constraint);
+            if (!states.isEmpty()) {
+                violatingStates.put(evaluation.getTransposeFlowGraph(), evaluation.getContextAttributeStates(states));
+            }
+        }
+        return violatingStates;
+    }
+
+    /**
+     * Searches the alternate flow graphs of the given flow graphs for a violation of the given constraint and stops at the
+     * first violation that is found
+     * @param flowGraphs Flow graphs with unresolved context dependent attributes
+     * @param constraint Constraint that is checked at each vertex
+     * @return Returns a {@link Violation} of the constraint, if one exists. Otherwise, an empty optional is returned
+     * @see #findViolations(DFDGDPRFlowGraphCollection, Predicate, int)
+     */
+    public Optional<Violation> findFirstViolation(DFDGDPRFlowGraphCollection flowGraphs, Predicate<? super AbstractVertex<?>> constraint) {
+        return this.findViolations(flowGraphs, constraint, 1)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Finds, resolves and evaluates all flow graphs of the analysis and stores the evaluated alternate flow graphs in an
+     * {@link AnalysisSnapshot}, which can be updated after the models changed using
+     * {@link #reanalyze(AnalysisSnapshot, Collection)}.
+     * <p/>
+     * If the analysis is cancelled or exhausts a budget configured in the {@link GDPRLegalAssessmentAnalysisBuilder}, the
+     * returned snapshot only contains the alternate flow graphs created until then. See {@link AnalysisSnapshot#isComplete()}
+     * @return Returns the {@link AnalysisSnapshot} of the analysis
+     */
+    public AnalysisSnapshot analyze() {
+        AnalysisSnapshot snapshot = ((DFDGDPRFlowGraphCollection) this.findFlowGraphs()).createSnapshot();
+        this.settings.getMetrics()
+                .publish();
+        return snapshot;
+    }
+
+    /**
+     * Repeats the analysis after the GDPR or context property model changed. The models are transformed again, but only
+     * the flow graphs affected by the given changed elements are resolved and evaluated. The evaluated alternate flow
+     * graphs of all other flow graphs are taken from the previous snapshot
+     * @param previousSnapshot Snapshot of the analysis before the change
+     * @param changedElements Elements that were changed, added or removed since the previous snapshot
+     * @return Returns the updated {@link AnalysisSnapshot} of the analysis
+     * @see DFDGDPRFlowGraphCollection#createSnapshot(AnalysisSnapshot, Collection)
+     */
+    public AnalysisSnapshot reanalyze(AnalysisSnapshot previousSnapshot, Collection<? extends EObject> changedElements) {
+        AnalysisSnapshot snapshot = ((DFDGDPRFlowGraphCollection) this.findFlowGraphs()).createSnapshot(previousSnapshot, changedElements);
+        this.settings.getMetrics()
+                .publish();
+        return snapshot;
+    }
+
+    /**
+     * Repeats the analysis with the changes recorded by the given {@link ModelChangeRecorder}. The recorded changes are
+     * cleared, so the recorder can be used for the next change
+     * @param previousSnapshot Snapshot of the analysis before the change
+     * @param changeRecorder Recorder that observed the changes since the previous snapshot
+     * @return Returns the updated {@link AnalysisSnapshot} of the analysis
+     * @see #recordModelChanges()
+     */
+    public AnalysisSnapshot reanalyze(AnalysisSnapshot previousSnapshot, ModelChangeRecorder changeRecorder) {
+        Set<EObject> changedElements = changeRecorder.getChangedElements();
+        changeRecorder.clear();
+        return this.reanalyze(previousSnapshot, changedElements);
+    }
+
+    /**
+     * Creates a {@link ModelChangeRecorder} that observes the GDPR and context property model of the analysis
+     * @return Returns the attached {@link ModelChangeRecorder}
+     */
+    public ModelChangeRecorder recordModelChanges() {
+        ModelChangeRecorder changeRecorder = new ModelChangeRecorder();
+        changeRecorder.observe(this.resourceProvider.getGDPRModel());
+        changeRecorder.observe(this.resourceProvider.getScopeDependentAssessmentFacts());
+        return changeRecorder;
+    }
+
+    /**
+     * Returns the registry containing the metrics recorded by the analysis. Metrics are only recorded, if they were enabled
+     * using {@link GDPRLegalAssessmentAnalysisBuilder#collectMetrics()}. The metrics are published to the registered sinks
+     * after each call to {@link #analyze()} and {@link #reanalyze(AnalysisSnapshot, Collection)}
+     * @return Returns the {@link AnalysisMetrics} of the analysis
+     */
+    public AnalysisMetrics getMetrics() {
+        return this.settings.getMetrics();
     }
 
     @Override
@@ -1,8 +1,20 @@
 package mdpa.gdpr.analysis;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import mdpa.gdpr.analysis.core.AnalysisMetrics;
+import mdpa.gdpr.analysis.core.AnalysisSettings;
+import mdpa.gdpr.analysis.core.CancellationToken;
+import mdpa.gdpr.analysis.core.MetricsSink;
+import mdpa.gdpr.analysis.core.ProgressListener;
+import mdpa.gdpr.analysis.core.TransformationManager;
 import mdpa.gdpr.analysis.resource.GDPRResourceProvider;
 import mdpa.gdpr.analysis.resource.GDPRURIResourceProvider;
+import mdpa.gdpr.analysis.resource.ResourceFormat;
+import mdpa.gdpr.analysis.resource.TransformationCache;
 import org.apache.log4j.Logger;
 import org.dataflowanalysis.analysis.DataFlowAnalysisBuilder;
 import org.dataflowanalysis.analysis.utils.ResourceUtils;
@@ -21,12 +33,34 @@ public class GDPRLegalAssessmentAnalysisBuilder extends DataFlowAnalysisBuilder
     protected String gdprModelPath;
     protected String attributesPath;
     protected Optional<GDPRResourceProvider> customResourceProvider;
+    protected int parallelism;
+    protected boolean deduplicateFlowGraphs;
+    protected int explorationQueueCapacity;
+    protected Optional<Path> transformationCacheDirectory;
+    protected ResourceFormat transformationCacheFormat;
+    protected boolean collectMetrics;
+    protected List<MetricsSink> metricsSinks;
+    protected Optional<ProgressListener> progressListener;
+    protected Optional<CancellationToken> cancellationToken;
+    protected Optional<Duration> timeBudget;
+    protected long stateBudget;
 
     /**
      * Constructs a dfd analysis builder with empty values
      */
     public GDPRLegalAssessmentAnalysisBuilder() {
         this.customResourceProvider = Optional.empty();
+        this.parallelism = 1;
+        this.deduplicateFlowGraphs = false;
+        this.explorationQueueCapacity = AnalysisSettings.DEFAULT_EXPLORATION_QUEUE_CAPACITY;
+        this.transformationCacheDirectory = Optional.empty();
+        this.transformationCacheFormat = ResourceFormat.XMI;
+        this.collectMetrics = false;
+        this.metricsSinks = new ArrayList<>();
+        this.progressListener = Optional.empty();
+        this.cancellationToken = Optional.empty();
+        this.timeBudget = Optional.empty();
+        this.stateBudget = AnalysisSettings.UNLIMITED_STATES;
     }
 
     /**
@@ -84,6 +118,150 @@ public class GDPRLegalAssessmentAnalysisBuilder extends DataFlowAnalysisBuilder
         return this;
     }
 
+    /**
+     * Sets the amount of threads used to resolve context dependent attributes. With a parallelism larger than one, the
+     * transpose flow graphs and their states are resolved on a fork-join pool
+     * @param parallelism Amount of threads used by the analysis
+     * @return Builder of the analysis
+     */
+    public GDPRLegalAssessmentAnalysisBuilder parallelism(int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Enables the deduplication of alternate flow graphs. Structurally identical alternate flow graphs that were created
+     * for different states are collapsed into one flow graph carrying all of these states. Streamed and searched alternate
+     * flow graphs are not collapsed
+     * @return Builder of the analysis
+     */
+    public GDPRLegalAssessmentAnalysisBuilder deduplicateFlowGraphs() {
+        this.deduplicateFlowGraphs = true;
+        return this;
+    }
+
+    /**
+     * Sets the maximum amount of partially transformed transpose flow graphs that are retained while exploring additional
+     * states caused by uncertain context dependent attributes
+     * @param explorationQueueCapacity Capacity of the exploration queue
+     * @return Builder of the analysis
+     */
+    public GDPRLegalAssessmentAnalysisBuilder explorationQueueCapacity(int explorationQueueCapacity) {
+        this.explorationQueueCapacity = explorationQueueCapacity;
+        return this;
+    }
+
+    /**
+     * Enables caching of the transformation from GDPR to DFD in the given directory. If the GDPR model and context
+     * property model did not change since a previous analysis, the stored transformation result is reused.
+     * <p/>
+     * The cache is not used with a custom resource provider
+     * @param transformationCacheDirectory Directory in which the transformation results are stored
+     * @return Builder of the analysis
+     */
+    public GDPRLegalAssessmentAnalysisBuilder useTransformationCache(Path transformationCacheDirectory) {
+        this.transformationCacheDirectory = Optional.of(transformationCacheDirectory);
+        return this;
+    }
+
+    /**
+     * Enables caching of the transformation from GDPR to DFD in the given directory. New transformation results are
+     * stored in the given format. {@link ResourceFormat#BINARY} is considerably faster to load for large models
+     * @param transformationCacheDirectory Directory in which the transformation results are stored
+     * @param format Format in which the transformation results are stored
+     * @return Builder of the analysis
+     */
+    public GDPRLegalAssessmentAnalysisBuilder useTransformationCache(Path transformationCacheDirectory, ResourceFormat format) {
+        this.transformationCacheDirectory = Optional.of(transformationCacheDirectory);
+        this.transformationCacheFormat = format;
+        return this;
+    }
+
+    /**
+     * Enables the collection of {@link AnalysisMetrics}, which can be obtained using
+     * {@link GDPRLegalAssessmentAnalysis#getMetrics()}
+     * @return Builder of the analysis
+     */
+    public GDPRLegalAssessmentAnalysisBuilder collectMetrics() {
+        this.collectMetrics = true;
+        return this;
+    }
+
+    /**
+     * Enables the collection of {@link AnalysisMetrics} and registers a sink the metrics are published to after each
+     * analysis run
+     * @param sink {@link MetricsSink} receiving the metrics
+     * @return Builder of the analysis
+     */
+    public GDPRLegalAssessmentAnalysisBuilder collectMetrics(MetricsSink sink) {
+        this.collectMetrics = true;
+        this.metricsSinks.add(sink);
+        return this;
+    }
+
+    /**
+     * Registers a listener that is notified each time the analysis resolved a state or evaluated an alternate flow graph
+     * @param progressListener {@link ProgressListener} of the analysis
+     * @return Builder of the analysis
+     */
+    public GDPRLegalAssessmentAnalysisBuilder progressListener(ProgressListener progressListener) {
+        this.progressListener = Optional.of(progressListener);
+        return this;
+    }
+
+    /**
+     * Registers a token that can be used to cancel the analysis from another thread. A cancelled analysis returns the
+     * alternate flow graphs of the states resolved until then
+     * @param cancellationToken {@link CancellationToken} of the analysis
+     * @return Builder of the analysis
+     */
+    public GDPRLegalAssessmentAnalysisBuilder cancellationToken(CancellationToken cancellationToken) {
+        this.cancellationToken = Optional.of(cancellationToken);
+        return this;
+    }
+
+    /**
+     * Limits the wall-clock time of resolving and evaluating the alternate flow graphs. Once the budget is exhausted, the
+     * analysis returns the alternate flow graphs of the states resolved until then
+     * @param timeBudget Time budget of the analysis
+     * @return Builder of the analysis
+     */
+    public GDPRLegalAssessmentAnalysisBuilder timeBudget(Duration timeBudget) {
+        this.timeBudget = Optional.of(timeBudget);
+        return this;
+    }
+
+    /**
+     * Limits the amount of states that are resolved. Once the budget is exhausted, the analysis returns the alternate flow
+     * graphs of the states resolved until then
+     * @param stateBudget Maximum amount of resolved states
+     * @return Builder of the analysis
+     */
+    public GDPRLegalAssessmentAnalysisBuilder stateBudget(long stateBudget) {
+        this.stateBudget = stateBudget;
+        return this;
+    }
+
+    /**
+     * Creates the {@link AnalysisSettings} from the stored data
+     */
+    private AnalysisSettings getEffectiveSettings() {
+        AnalysisSettings settings = new AnalysisSettings();
+        settings.setParallelism(this.parallelism);
+        settings.setDeduplicateFlowGraphs(this.deduplicateFlowGraphs);
+        settings.setExplorationQueueCapacity(this.explorationQueueCapacity);
+        if (this.collectMetrics) {
+            AnalysisMetrics metrics = new AnalysisMetrics();
+            this.metricsSinks.forEach(metrics::addSink);
+            settings.setMetrics(metrics);
+        }
+        this.progressListener.ifPresent(settings::setProgressListener);
+        this.cancellationToken.ifPresent(settings::setCancellationToken);
+        this.timeBudget.ifPresent(settings::setTimeBudget);
+        settings.setStateBudget(this.stateBudget);
+        return settings;
+    }
+
     /**
      * Determines the effective resource provider that should be used by the analysis
      */
@@ -91,8 +269,12 @@ public class GDPRLegalAssessmentAnalysisBuilder extends DataFlowAnalysisBuilder
         if (this.customResourceProvider.isPresent()) {
             return this.customResourceProvider.get();
         }
+        TransformationManager transformationManager = this.transformationCacheDirectory
+                .map(it -> new TransformationCache(it, this.transformationCacheFormat))
+                .map(TransformationManager::new)
+                .orElseGet(TransformationManager::new);
         return new GDPRURIResourceProvider(ResourceUtils.createRelativePluginURI(this.gdprModelPath, this.modelProjectName),
-                ResourceUtils.createRelativePluginURI(this.attributesPath, this.modelProjectName));
+                ResourceUtils.createRelativePluginURI(this.attributesPath, this.modelProjectName), transformationManager);
     }
 
     /**
@@ -108,6 +290,23 @@ public class GDPRLegalAssessmentAnalysisBuilder extends DataFlowAnalysisBuilder
             logger.error("A file with context dependent attributes is required to run the data flow analysis",
                     new IllegalStateException("The GDPR analysis requires a file with context dependent attributes"));
         }
+        if (this.parallelism < 1) {
+            logger.error("The parallelism of the analysis must be at least one",
+                    new IllegalStateException("The GDPR analysis requires a positive parallelism"));
+        }
+        if (this.explorationQueueCapacity < 0) {
+            logger.error("The capacity of the exploration queue must not be negative",
+                    new IllegalStateException("The GDPR analysis requires a non-negative exploration queue capacity"));
+        }
+        if (this.timeBudget.filter(it -> it.isNegative() || it.isZero())
+                .isPresent()) {
+            logger.error("The time budget of the analysis must be positive",
+                    new IllegalStateException("The GDPR analysis requires a positive time budget"));
+        }
+        if (this.stateBudget < 1) {
+            logger.error("The state budget of the analysis must be at least one",
+                    new IllegalStateException("The GDPR analysis requires a positive state budget"));
+        }
     }
 
     /**
@@ -115,6 +314,7 @@ public class GDPRLegalAssessmentAnalysisBuilder extends DataFlowAnalysisBuilder
      */
     public GDPRLegalAssessmentAnalysis build() {
         this.validate();
-        return new GDPRLegalAssessmentAnalysis(this.getEffectiveResourceProvider(), this.pluginActivator, this.modelProjectName);
+        return new GDPRLegalAssessmentAnalysis(this.getEffectiveResourceProvider(), this.pluginActivator, this.modelProjectName,
+                this.getEffectiveSettings());
     }
 }
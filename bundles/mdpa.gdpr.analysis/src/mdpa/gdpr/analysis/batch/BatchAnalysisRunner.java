@@ -0,0 +1,335 @@
+package mdpa.gdpr.analysis.batch;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import mdpa.gdpr.analysis.GDPRAnalysisEnvironment;
+import mdpa.gdpr.analysis.GDPRLegalAssessmentAnalysis;
+import mdpa.gdpr.analysis.GDPRLegalAssessmentAnalysisBuilder;
+import mdpa.gdpr.analysis.core.CancellationToken;
+import mdpa.gdpr.analysis.core.TransformationManager;
+import mdpa.gdpr.analysis.dfd.AnalysisSnapshot;
+import mdpa.gdpr.analysis.resource.GDPRURIResourceProvider;
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.URI;
+import tools.mdsd.library.standalone.initialization.StandaloneInitializationException;
+
+/**
+ * Analyzes many pairs of GDPR and context property models in one JVM and writes the results into one consolidated file.
+ * <p/>
+ * The standalone environment is initialized once and shared by all analyses. See {@link GDPRAnalysisEnvironment}. The
+ * models are analyzed concurrently on a bounded pool with the following limits for each model:
+ * - A time limit: If an analysis does not finish in time, it is cancelled and reported as timed out
+ * - A memory limit: Before an analysis starts, it reserves its memory limit from the maximum heap size. Analyses only
+ * start if enough of the heap is unreserved. An analysis keeps its reservation until it has actually finished, even if it
+ * was reported as timed out before
+ * <p/>
+ * A timed out analysis is cancelled with its {@link CancellationToken}, which the analysis checks before resolving each
+ * state, and its worker thread is interrupted. The analysis keeps its slot until it has actually stopped, but at most for
+ * the {@link #CANCELLATION_GRACE_PERIOD}. An analysis that is stuck outside of the state enumeration, e.g. while loading
+ * or transforming its models, is abandoned afterwards, so that it does not block the following models. It keeps running
+ * on a daemon thread until it stops on its own
+ * <p/>
+ * Usage: {@code <model directory|manifest> <result file> [parallelism] [time limit in seconds] [memory limit in MB]}
+ */
+public class BatchAnalysisRunner {
+    public static final int DEFAULT_PARALLELISM = Runtime.getRuntime()
+            .availableProcessors();
+    public static final Duration DEFAULT_TIME_LIMIT = Duration.ofMinutes(10);
+    public static final long DEFAULT_MEMORY_LIMIT_MEGABYTES = 512;
+    public static final Duration CANCELLATION_GRACE_PERIOD = Duration.ofSeconds(30);
+
+    private static final long MEGABYTE = 1024 * 1024;
+
+    private final Logger logger = Logger.getLogger(BatchAnalysisRunner.class);
+    private final int parallelism;
+    private final Duration timeLimit;
+    private final int memoryLimitMegabytes;
+    private final Semaphore memoryBudget;
+
+    /**
+     * Creates a new {@link BatchAnalysisRunner} with the default parallelism and limits
+     */
+    public BatchAnalysisRunner() {
+        this(DEFAULT_PARALLELISM, DEFAULT_TIME_LIMIT, DEFAULT_MEMORY_LIMIT_MEGABYTES);
+    }
+
+    /**
+     * Creates a new {@link BatchAnalysisRunner} with the given parallelism and limits
+     * @param parallelism Maximum amount of models that are analyzed concurrently
+     * @param timeLimit Maximum duration of the analysis of a single model
+     * @param memoryLimitMegabytes Amount of heap memory that is reserved for the analysis of a single model in megabytes.
+     * The limit is capped at the maximum heap size
+     * @throws IllegalArgumentException Thrown if the parallelism or memory limit is not positive or the time limit is not
+     * positive
+     */
+    public BatchAnalysisRunner(int parallelism, Duration timeLimit, long memoryLimitMegabytes) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism of the batch analysis must be at least one");
+        }
+        if (timeLimit.isNegative() || timeLimit.isZero()) {
+            throw new IllegalArgumentException("Time limit of the batch analysis must be positive");
+        }
+        if (memoryLimitMegabytes < 1) {
+            throw new IllegalArgumentException("Memory limit of the batch analysis must be positive");
+        }
+        int availableMegabytes = (int) Math.max(1, Runtime.getRuntime()
+                .maxMemory() / MEGABYTE);
+        this.parallelism = parallelism;
+        this.timeLimit = timeLimit;
+        this.memoryLimitMegabytes = (int) Math.min(memoryLimitMegabytes, availableMegabytes);
+        this.memoryBudget = new Semaphore(availableMegabytes, true);
+    }
+
+    /**
+     * Analyzes the given models and writes the results to the given file
+     * @param models Models that should be analyzed
+     * @param resultFile File the consolidated results are written to
+     * @return Returns the results of the analyses in the order of the given models
+     * @throws IOException Thrown if the result file could not be written
+     */
+    public List<BatchResult> run(List<BatchModel> models, Path resultFile) throws IOException {
+        List<BatchResult> results = this.run(models);
+        this.writeResults(results, resultFile);
+        return results;
+    }
+
+    /**
+     * Analyzes the given models
+     * @param models Models that should be analyzed
+     * @return Returns the results of the analyses in the order of the given models
+     */
+    public List<BatchResult> run(List<BatchModel> models) {
+        try {
+            GDPRAnalysisEnvironment.initialize();
+        } catch (StandaloneInitializationException e) {
+            logger.error("Could not initialize analysis environment", e);
+            throw new IllegalStateException("Could not initialize analysis environment");
+        }
+        ExecutorService slots = Executors.newFixedThreadPool(this.parallelism, this.createThreadFactory("batch-slot"));
+        ExecutorService workers = Executors.newCachedThreadPool(this.createThreadFactory("batch-worker"));
+        try {
+            List<Future<BatchResult>> futures = new ArrayList<>();
+            for (BatchModel model : models) {
+                futures.add(slots.submit(() -> this.runWithLimits(model, workers)));
+            }
+            List<BatchResult> results = new ArrayList<>();
+            for (int index = 0; index < models.size(); index++) {
+                results.add(this.getResult(models.get(index), futures.get(index)));
+            }
+            return results;
+        } finally {
+            slots.shutdownNow();
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Reserves the memory limit of the given model and analyzes it on a worker thread within the time limit. If the time
+     * limit is exceeded, the analysis is cancelled and the slot waits until the worker has stopped or the grace period
+     * has expired
+     * @param model Model that should be analyzed
+     * @param workers Executor running the analyses
+     * @return Returns the result of the analysis
+     * @throws InterruptedException Thrown if the slot was interrupted while waiting for memory or the worker
+     */
+    private BatchResult runWithLimits(BatchModel model, ExecutorService workers) throws InterruptedException {
+        this.memoryBudget.acquire(this.memoryLimitMegabytes);
+        long start = System.nanoTime();
+        CancellationToken cancellationToken = new CancellationToken();
+        CountDownLatch stopped = new CountDownLatch(1);
+        Future<BatchResult> future;
+        try {
+            future = workers.submit(() -> {
+                try {
+                    return this.analyze(model, start, cancellationToken);
+                } finally {
+                    this.memoryBudget.release(this.memoryLimitMegabytes);
+                    stopped.countDown();
+                }
+            });
+        } catch (RuntimeException e) {
+            this.memoryBudget.release(this.memoryLimitMegabytes);
+            throw e;
+        }
+        try {
+            return future.get(this.timeLimit.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            cancellationToken.cancel();
+            future.cancel(true);
+            long duration = this.getDurationMillis(start);
+            logger.warn("Analysis of model " + model.name() + " exceeded the time limit of " + this.timeLimit);
+            this.awaitWorker(model, stopped);
+            return BatchResult.failure(model.name(), BatchResult.Status.TIMEOUT, duration,
+                    "Exceeded time limit of " + this.timeLimit.toSeconds() + " s");
+        } catch (ExecutionException e) {
+            return this.createFailure(model, start, e.getCause());
+        }
+    }
+
+    /**
+     * Waits until the cancelled analysis of the given model has stopped, but at most for the
+     * {@link #CANCELLATION_GRACE_PERIOD}. Its result is discarded
+     * @param model Model analyzed by the worker
+     * @param stopped Latch that is counted down once the worker has stopped
+     * @throws InterruptedException Thrown if the slot was interrupted while waiting for the worker
+     */
+    private void awaitWorker(BatchModel model, CountDownLatch stopped) throws InterruptedException {
+        if (!stopped.await(CANCELLATION_GRACE_PERIOD.toNanos(), TimeUnit.NANOSECONDS)) {
+            logger.warn("Cancelled analysis of model " + model.name() + " did not stop within " + CANCELLATION_GRACE_PERIOD
+                    + ", releasing its slot");
+        }
+    }
+
+    /**
+     * Analyzes the given model
+     * @param model Model that should be analyzed
+     * @param start Start of the analysis as returned by {@link System#nanoTime()}
+     * @param cancellationToken Token that is cancelled once the analysis exceeded the time limit, so that it stops resolving
+     * further states and releases its memory early
+     * @return Returns the result of the analysis
+     */
+    private BatchResult analyze(BatchModel model, long start, CancellationToken cancellationToken) {
+        try {
+            GDPRURIResourceProvider resourceProvider = new GDPRURIResourceProvider(URI.createFileURI(model.gdprModelPath()
+                    .toAbsolutePath()
+                    .toString()),
+                    URI.createFileURI(model.propertyPath()
+                            .toAbsolutePath()
+                            .toString()),
+                    new TransformationManager());
+            GDPRLegalAssessmentAnalysis analysis = new GDPRLegalAssessmentAnalysisBuilder().standalone()
+                    .useCustomResourceProvider(resourceProvider)
+                    .cancellationToken(cancellationToken)
+                    .build();
+            analysis.initializeAnalysis();
+            AnalysisSnapshot snapshot = analysis.analyze();
+            int alternateFlowGraphs = snapshot.getFlowGraphs()
+                    .getTransposeFlowGraphs()
+                    .size();
+            logger.info("Analyzed model " + model.name() + " in " + this.getDurationMillis(start) + " ms");
+            return new BatchResult(model.name(), BatchResult.Status.SUCCESS, this.getDurationMillis(start), snapshot.getReanalyzedFlowGraphs(),
+                    alternateFlowGraphs, snapshot.getStateStatistics()
+                            .getExploredStates(),
+                    snapshot.getStateStatistics()
+                            .getPrunedStates(),
+                    "");
+        } catch (OutOfMemoryError e) {
+            return BatchResult.failure(model.name(), BatchResult.Status.OUT_OF_MEMORY, this.getDurationMillis(start), e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the result of the given future and converts unexpected failures of the slot into a failed result
+     * @param model Model analyzed by the future
+     * @param future Future of the analysis
+     * @return Returns the result of the analysis
+     */
+    private BatchResult getResult(BatchModel model, Future<BatchResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                    .interrupt();
+            return BatchResult.failure(model.name(), BatchResult.Status.FAILED, 0, "Interrupted");
+        } catch (ExecutionException e) {
+            return this.createFailure(model, System.nanoTime(), e.getCause());
+        }
+    }
+
+    /**
+     * Creates the result of an analysis that failed with the given exception
+     * @param model Model that was analyzed
+     * @param start Start of the analysis as returned by {@link System#nanoTime()}
+     * @param cause Exception that caused the failure
+     * @return Returns the failed result
+     */
+    private BatchResult createFailure(BatchModel model, long start, Throwable cause) {
+        logger.error("Analysis of model " + model.name() + " failed", cause);
+        BatchResult.Status status = cause instanceof OutOfMemoryError ? BatchResult.Status.OUT_OF_MEMORY : BatchResult.Status.FAILED;
+        String message = cause.getMessage() == null ? cause.getClass()
+                .getSimpleName() : cause.getMessage();
+        return BatchResult.failure(model.name(), status, this.getDurationMillis(start), message);
+    }
+
+    /**
+     * Writes the given results into the given file
+     * @param results Results of the batch analysis
+     * @param resultFile File the results are written to
+     * @throws IOException Thrown if the file could not be written
+     */
+    public void writeResults(List<BatchResult> results, Path resultFile) throws IOException {
+        Path parent = resultFile.toAbsolutePath()
+                .getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(resultFile)) {
+            writer.write(BatchResult.CSV_HEADER);
+            writer.newLine();
+            for (BatchResult result : results) {
+                writer.write(result.toCsv());
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Returns the time since the given start in milliseconds
+     * @param start Start as returned by {@link System#nanoTime()}
+     * @return Returns the elapsed time in milliseconds
+     */
+    private long getDurationMillis(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    /**
+     * Creates a thread factory for daemon threads, so that analyses exceeding their time limit do not prevent the JVM from
+     * exiting
+     * @param prefix Prefix of the thread names
+     * @return Returns the created thread factory
+     */
+    private ThreadFactory createThreadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println(
+                    "Usage: BatchAnalysisRunner <model directory|manifest> <result file> [parallelism] [time limit in seconds] [memory limit in MB]");
+            System.exit(1);
+        }
+        Path input = Paths.get(args[0]);
+        List<BatchModel> models = Files.isDirectory(input) ? BatchModel.fromDirectory(input) : BatchModel.fromManifest(input);
+        int parallelism = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_PARALLELISM;
+        Duration timeLimit = args.length > 3 ? Duration.ofSeconds(Long.parseLong(args[3])) : DEFAULT_TIME_LIMIT;
+        long memoryLimit = args.length > 4 ? Long.parseLong(args[4]) : DEFAULT_MEMORY_LIMIT_MEGABYTES;
+
+        List<BatchResult> results = new BatchAnalysisRunner(parallelism, timeLimit, memoryLimit).run(models, Paths.get(args[1]));
+        long failed = results.stream()
+                .filter(it -> it.status() != BatchResult.Status.SUCCESS)
+                .count();
+        System.out.println("Analyzed " + results.size() + " models, " + failed + " did not succeed");
+        System.exit(failed == 0 ? 0 : 2);
+    }
+}
@@ -0,0 +1,79 @@
+package mdpa.gdpr.analysis.batch;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Pair of a GDPR model and a context property model that is analyzed by the {@link BatchAnalysisRunner}
+ * @param name Name of the model used in the results
+ * @param gdprModelPath Path to the .gdpr file
+ * @param propertyPath Path to the .contextproperties file
+ */
+public record BatchModel(String name, Path gdprModelPath, Path propertyPath) {
+    public static final String GDPR_EXTENSION = ".gdpr";
+    public static final String PROPERTY_EXTENSION = ".contextproperties";
+
+    /**
+     * Finds all model pairs in the given directory and its subdirectories. A model pair consists of a .gdpr file and a
+     * .contextproperties file with the same name in the same directory. The name of a model pair is the path of the .gdpr
+     * file relative to the directory without its extension
+     * @param directory Directory that is searched for model pairs
+     * @return Returns the list of found model pairs ordered by name
+     * @throws IOException Thrown if the directory could not be read
+     */
+    public static List<BatchModel> fromDirectory(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(it -> it.getFileName()
+                    .toString()
+                    .endsWith(GDPR_EXTENSION))
+                    .sorted()
+                    .map(it -> {
+                        String fileName = it.getFileName()
+                                .toString();
+                        String baseName = fileName.substring(0, fileName.length() - GDPR_EXTENSION.length());
+                        Path propertyPath = it.resolveSibling(baseName + PROPERTY_EXTENSION);
+                        String relativePath = directory.relativize(it)
+                                .toString();
+                        return new BatchModel(relativePath.substring(0, relativePath.length() - GDPR_EXTENSION.length()), it, propertyPath);
+                    })
+                    .filter(it -> Files.isRegularFile(it.propertyPath()))
+                    .toList();
+        }
+    }
+
+    /**
+     * Reads the model pairs listed in the given manifest file. Each non-empty line that does not start with # contains the
+     * path to a .gdpr file and the path to a .contextproperties file separated by a comma. An optional third column
+     * contains the name of the model pair. Relative paths are resolved against the directory of the manifest
+     * @param manifest Path to the manifest file
+     * @return Returns the list of model pairs in the order of the manifest
+     * @throws IOException Thrown if the manifest could not be read
+     * @throws IllegalArgumentException Thrown if a line of the manifest is malformed
+     */
+    public static List<BatchModel> fromManifest(Path manifest) throws IOException {
+        Path baseDirectory = manifest.toAbsolutePath()
+                .getParent();
+        List<BatchModel> models = new ArrayList<>();
+        List<String> lines = Files.readAllLines(manifest);
+        for (int index = 0; index < lines.size(); index++) {
+            String line = lines.get(index)
+                    .strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] columns = line.split(",");
+            if (columns.length < 2 || columns.length > 3) {
+                throw new IllegalArgumentException("Malformed line " + (index + 1) + " in manifest " + manifest + ": " + line);
+            }
+            Path gdprModelPath = baseDirectory.resolve(columns[0].strip());
+            Path propertyPath = baseDirectory.resolve(columns[1].strip());
+            String name = columns.length == 3 ? columns[2].strip() : columns[0].strip();
+            models.add(new BatchModel(name, gdprModelPath, propertyPath));
+        }
+        return models;
+    }
+}
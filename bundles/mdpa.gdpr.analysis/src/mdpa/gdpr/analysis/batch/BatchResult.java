@@ -0,0 +1,70 @@
+package mdpa.gdpr.analysis.batch;
+
+import java.util.StringJoiner;
+
+/**
+ * Result of analyzing a single {@link BatchModel}
+ * @param model Name of the analyzed model
+ * @param status Outcome of the analysis
+ * @param durationMillis Time from the start of the analysis until its result was available in milliseconds
+ * @param flowGraphs Amount of complete transpose flow graphs
+ * @param alternateFlowGraphs Amount of evaluated alternate flow graphs
+ * @param exploredStates Amount of explored context attribute states
+ * @param prunedStates Amount of pruned context attribute states
+ * @param message Error message, if the analysis did not succeed. Otherwise, the message is empty
+ */
+public record BatchResult(String model, Status status, long durationMillis, int flowGraphs, int alternateFlowGraphs, long exploredStates,
+        long prunedStates, String message) {
+    public static final String CSV_HEADER = "Model,Status,DurationMillis,FlowGraphs,AlternateFlowGraphs,ExploredStates,PrunedStates,Message";
+
+    /**
+     * Outcome of the analysis of a single model
+     */
+    public enum Status {
+        SUCCESS,
+        FAILED,
+        TIMEOUT,
+        OUT_OF_MEMORY
+    }
+
+    /**
+     * Creates the result of an analysis that did not succeed
+     * @param model Name of the analyzed model
+     * @param status Outcome of the analysis
+     * @param durationMillis Time until the analysis was aborted in milliseconds
+     * @param message Message describing the failure
+     * @return Returns a new {@link BatchResult} without analysis results
+     */
+    public static BatchResult failure(String model, Status status, long durationMillis, String message) {
+        return new BatchResult(model, status, durationMillis, 0, 0, 0, 0, message == null ? "" : message);
+    }
+
+    /**
+     * Converts the result into a line of the consolidated result file
+     * @return Returns the result as comma separated values in the order of {@link #CSV_HEADER}
+     */
+    public String toCsv() {
+        StringJoiner line = new StringJoiner(",");
+        line.add(escape(this.model));
+        line.add(this.status.name());
+        line.add(Long.toString(this.durationMillis));
+        line.add(Integer.toString(this.flowGraphs));
+        line.add(Integer.toString(this.alternateFlowGraphs));
+        line.add(Long.toString(this.exploredStates));
+        line.add(Long.toString(this.prunedStates));
+        line.add(escape(this.message));
+        return line.toString();
+    }
+
+    /**
+     * Escapes the given value for use in a comma separated file
+     * @param value Value that should be escaped
+     * @return Returns the value, quoted if it contains a separator, quote or line break
+     */
+    private static String escape(String value) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
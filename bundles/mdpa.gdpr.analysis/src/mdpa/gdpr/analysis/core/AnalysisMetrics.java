@@ -0,0 +1,266 @@
+package mdpa.gdpr.analysis.core;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registry of the counters and timers recorded by a {@link mdpa.gdpr.analysis.GDPRLegalAssessmentAnalysis} for each
+ * {@link Phase} of the analysis.
+ * <p/>
+ * Times are recorded in nanoseconds for each timed section of a phase. If a phase runs on multiple threads, the times of
+ * all threads are summed up. The counters and timers are thread-safe.
+ * <p/>
+ * A disabled registry, which is used unless metrics are enabled in the
+ * {@link mdpa.gdpr.analysis.GDPRLegalAssessmentAnalysisBuilder}, ignores all recorded values. Therefore, recording metrics
+ * only costs a branch when they are disabled
+ */
+public class AnalysisMetrics {
+    private static final AnalysisMetrics DISABLED = new AnalysisMetrics(false);
+
+    private final boolean enabled;
+    private final LongAdder[][] counters;
+    private final LongAdder[] times;
+    private final List<MetricsSink> sinks;
+
+    /**
+     * Phases of the analysis the metrics are recorded for
+     */
+    public enum Phase {
+        /**
+         * Initialization of the standalone environment and loading of the models
+         */
+        INITIALIZATION("initialization"),
+        /**
+         * Transformation of the GDPR model into a data flow diagram
+         */
+        TRANSFORMATION("transformation"),
+        /**
+         * Finding the transpose flow graphs of the data flow diagram
+         */
+        FLOW_GRAPH_FINDING("flowGraphFinding"),
+        /**
+         * Resolving the context dependent attributes of the transpose flow graphs
+         */
+        RESOLUTION("resolution"),
+        /**
+         * Evaluating the data flow of the alternate flow graphs
+         */
+        EVALUATION("evaluation");
+
+        private final String jsonName;
+
+        Phase(String jsonName) {
+            this.jsonName = jsonName;
+        }
+    }
+
+    /**
+     * Counters that are recorded for each {@link Phase}
+     */
+    public enum Counter {
+        /**
+         * States of context dependent attributes that were enumerated and resolved
+         */
+        STATES_ENUMERATED("statesEnumerated"),
+        /**
+         * States that were skipped, as none of their scenarios were applicable
+         */
+        STATES_SKIPPED("statesSkipped"),
+        /**
+         * Additional states that were spawned to explore uncertain context dependent attributes
+         */
+        UNCERTAINTY_BRANCHES("uncertaintyBranches"),
+        /**
+         * Vertices that were copied
+         */
+        VERTICES_COPIED("verticesCopied"),
+        /**
+         * Nodes of the data flow diagram that were cloned
+         */
+        NODES_CLONED("nodesCloned"),
+        /**
+         * Labels that were propagated to the vertices of the evaluated flow graphs
+         */
+        LABELS_PROPAGATED("labelsPropagated");
+
+        private final String jsonName;
+
+        Counter(String jsonName) {
+            this.jsonName = jsonName;
+        }
+    }
+
+    /**
+     * Creates a new enabled {@link AnalysisMetrics} registry with all counters and timers set to zero
+     */
+    public AnalysisMetrics() {
+        this(true);
+    }
+
+    private AnalysisMetrics(boolean enabled) {
+        this.enabled = enabled;
+        this.counters = new LongAdder[Phase.values().length][Counter.values().length];
+        this.times = new LongAdder[Phase.values().length];
+        for (Phase phase : Phase.values()) {
+            this.times[phase.ordinal()] = new LongAdder();
+            for (Counter counter : Counter.values()) {
+                this.counters[phase.ordinal()][counter.ordinal()] = new LongAdder();
+            }
+        }
+        this.sinks = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Returns the shared disabled registry, which ignores all recorded values
+     * @return Returns the disabled {@link AnalysisMetrics}
+     */
+    public static AnalysisMetrics disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Returns whether the registry records metrics
+     * @return Returns true, if the metrics are recorded. Otherwise, the method returns false
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Adds the given amount to the counter of the given phase
+     * @param phase Phase of the analysis
+     * @param counter Counter that is increased
+     * @param amount Amount that is added to the counter
+     */
+    public void add(Phase phase, Counter counter, long amount) {
+        if (!this.enabled || amount == 0) {
+            return;
+        }
+        this.counters[phase.ordinal()][counter.ordinal()].add(amount);
+    }
+
+    /**
+     * Increments the counter of the given phase by one
+     * @param phase Phase of the analysis
+     * @param counter Counter that is increased
+     */
+    public void increment(Phase phase, Counter counter) {
+        this.add(phase, counter, 1);
+    }
+
+    /**
+     * Starts timing a section of a phase
+     * @return Returns the start time that must be passed to {@link #stopTimer(Phase, long)}. If the registry is disabled,
+     * zero is returned without reading the clock
+     */
+    public long startTimer() {
+        return this.enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Stops timing a section of a phase and adds the elapsed time to the given phase
+     * @param phase Phase the section belongs to
+     * @param startTime Start time returned by {@link #startTimer()}
+     */
+    public void stopTimer(Phase phase, long startTime) {
+        if (!this.enabled) {
+            return;
+        }
+        this.times[phase.ordinal()].add(System.nanoTime() - startTime);
+    }
+
+    /**
+     * Returns the current value of the counter of the given phase
+     * @param phase Phase of the analysis
+     * @param counter Counter that is returned
+     * @return Returns the value of the counter
+     */
+    public long get(Phase phase, Counter counter) {
+        return this.counters[phase.ordinal()][counter.ordinal()].sum();
+    }
+
+    /**
+     * Returns the time that was spent in the given phase, summed up over all threads. Therefore, the time of a phase that
+     * ran in parallel exceeds its wall-clock time
+     * @param phase Phase of the analysis
+     * @return Returns the summed time of the phase in nanoseconds
+     */
+    public long getTimeNanos(Phase phase) {
+        return this.times[phase.ordinal()].sum();
+    }
+
+    /**
+     * Returns the sum of the counter over all phases
+     * @param counter Counter that is returned
+     * @return Returns the total value of the counter
+     */
+    public long getTotal(Counter counter) {
+        long total = 0;
+        for (Phase phase : Phase.values()) {
+            total += this.get(phase, counter);
+        }
+        return total;
+    }
+
+    /**
+     * Resets all counters and timers to zero
+     */
+    public void reset() {
+        for (Phase phase : Phase.values()) {
+            this.times[phase.ordinal()].reset();
+            for (Counter counter : Counter.values()) {
+                this.counters[phase.ordinal()][counter.ordinal()].reset();
+            }
+        }
+    }
+
+    /**
+     * Registers a sink that receives the metrics each time they are published. Sinks of the disabled registry are ignored
+     * @param sink {@link MetricsSink} that should be registered
+     */
+    public void addSink(MetricsSink sink) {
+        if (this.enabled) {
+            this.sinks.add(sink);
+        }
+    }
+
+    /**
+     * Publishes the current metrics to all registered sinks
+     */
+    public void publish() {
+        this.sinks.forEach(sink -> sink.publish(this));
+    }
+
+    /**
+     * Serializes the current metrics as a JSON object containing an object with the summed time and counters for each
+     * phase
+     * @return Returns the JSON representation of the metrics
+     */
+    public String toJson() {
+        StringBuilder builder = new StringBuilder("{");
+        for (Phase phase : Phase.values()) {
+            if (phase.ordinal() > 0) {
+                builder.append(',');
+            }
+            builder.append('"')
+                    .append(phase.jsonName)
+                    .append("\":{\"summedTimeNanos\":")
+                    .append(this.getTimeNanos(phase));
+            for (Counter counter : Counter.values()) {
+                builder.append(",\"")
+                        .append(counter.jsonName)
+                        .append("\":")
+                        .append(this.get(phase, counter));
+            }
+            builder.append('}');
+        }
+        return builder.append('}')
+                .toString();
+    }
+
+    @Override
+    public String toString() {
+        return this.toJson();
+    }
+}
@@ -0,0 +1,237 @@
+package mdpa.gdpr.analysis.core;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.log4j.Logger;
+
+/**
+ * Tracks the progress of resolving and evaluating the alternate flow graphs of a
+ * {@link mdpa.gdpr.analysis.dfd.DFDGDPRFlowGraphCollection} and decides whether the analysis may continue.
+ * <p/>
+ * The analysis stops enumerating further states, if the {@link CancellationToken}, the time budget or the state budget
+ * of the {@link AnalysisSettings} require it. The alternate flow graphs of the states that were resolved until then are
+ * returned as partial result and the reason is recorded in the {@link ContextAttributeStateStatistics}. The time budget
+ * is measured from the creation of the progress, i.e. the start of the resolution.
+ * <p/>
+ * The progress is thread-safe. Progress without a listener, cancellation token or budget is not tracked at all, so that
+ * checking it only costs a branch
+ */
+public class AnalysisProgress {
+    private static final Logger logger = Logger.getLogger(AnalysisProgress.class);
+    private static final AnalysisProgress UNTRACKED = new AnalysisProgress(new AnalysisSettings(), 0, new ContextAttributeStateStatistics());
+
+    private final boolean tracked;
+    private final Optional<ProgressListener> listener;
+    private final Optional<CancellationToken> cancellationToken;
+    private final Optional<Duration> timeBudget;
+    private final long stateBudget;
+    private final long startTime;
+    private final long totalStates;
+    private final ContextAttributeStateStatistics statistics;
+    private final AtomicLong startedStates;
+    private final AtomicLong resolvedStates;
+    private final AtomicLong evaluatedFlowGraphs;
+
+    /**
+     * Reasons for stopping an analysis before all states were resolved
+     */
+    public enum StopReason {
+        /**
+         * The {@link CancellationToken} of the analysis was cancelled
+         */
+        CANCELLED,
+        /**
+         * The wall-clock time budget of the analysis was exhausted
+         */
+        TIME_BUDGET_EXHAUSTED,
+        /**
+         * The maximum amount of states of the analysis was resolved
+         */
+        STATE_BUDGET_EXHAUSTED
+    }
+
+    /**
+     * Creates a new {@link AnalysisProgress} for the resolution of a state space of the given size using the listener,
+     * cancellation token and budgets of the given settings
+     * @param settings {@link AnalysisSettings} of the analysis
+     * @param totalStates Total amount of states of the state spaces that are resolved, including states that are pruned
+     * @param statistics {@link ContextAttributeStateStatistics} of the resolution, in which the reason for stopping is
+     * recorded
+     */
+    public AnalysisProgress(AnalysisSettings settings, long totalStates, ContextAttributeStateStatistics statistics) {
+        this.listener = settings.getProgressListener();
+        this.cancellationToken = settings.getCancellationToken();
+        this.timeBudget = settings.getTimeBudget();
+        this.stateBudget = settings.getStateBudget();
+        this.tracked = isTracked(settings);
+        this.startTime = System.nanoTime();
+        this.totalStates = totalStates;
+        this.statistics = statistics;
+        this.startedStates = new AtomicLong();
+        this.resolvedStates = new AtomicLong();
+        this.evaluatedFlowGraphs = new AtomicLong();
+    }
+
+    /**
+     * Returns the shared progress that is not tracked and never stops the analysis
+     * @return Returns the untracked {@link AnalysisProgress}
+     */
+    public static AnalysisProgress untracked() {
+        return UNTRACKED;
+    }
+
+    /**
+     * Determines whether the progress of an analysis with the given settings needs to be tracked
+     * @param settings {@link AnalysisSettings} of the analysis
+     * @return Returns true, if the settings define a progress listener, cancellation token or budget. Otherwise, the method
+     * returns false
+     */
+    public static boolean isTracked(AnalysisSettings settings) {
+        return settings.getProgressListener()
+                .isPresent()
+                || settings.getCancellationToken()
+                        .isPresent()
+                || settings.getTimeBudget()
+                        .isPresent()
+                || settings.getStateBudget() < AnalysisSettings.UNLIMITED_STATES;
+    }
+
+    /**
+     * Returns whether the progress is tracked. Untracked progress never stops the analysis and does not notify a listener
+     * @return Returns true, if the progress is tracked. Otherwise, the method returns false
+     */
+    public boolean isTracked() {
+        return this.tracked;
+    }
+
+    /**
+     * Determines whether the analysis may continue. If the cancellation token was cancelled or the time budget is
+     * exhausted, the analysis is stopped
+     * @return Returns true, if the analysis may continue. Otherwise, the method returns false
+     */
+    public boolean shouldContinue() {
+        if (!this.tracked) {
+            return true;
+        }
+        if (this.statistics.getStopReason()
+                .isPresent()) {
+            return false;
+        }
+        if (this.cancellationToken.isPresent() && this.cancellationToken.get()
+                .isCancelled()) {
+            this.stop(StopReason.CANCELLED);
+            return false;
+        }
+        if (this.timeBudget.isPresent() && this.getElapsedTime().compareTo(this.timeBudget.get()) >= 0) {
+            this.stop(StopReason.TIME_BUDGET_EXHAUSTED);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Determines whether the analysis may resolve another state and reserves it in the state budget
+     * @return Returns true, if the state should be resolved. Otherwise, the analysis is stopped and the method returns false
+     */
+    public boolean tryStartState() {
+        if (!this.tracked) {
+            return true;
+        }
+        if (!this.shouldContinue()) {
+            return false;
+        }
+        if (this.startedStates.incrementAndGet() > this.stateBudget) {
+            this.stop(StopReason.STATE_BUDGET_EXHAUSTED);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Records that the alternate flow graphs of a state were created and notifies the listener
+     */
+    public void stateResolved() {
+        if (!this.tracked) {
+            return;
+        }
+        this.resolvedStates.incrementAndGet();
+        this.listener.ifPresent(it -> it.onProgress(this));
+    }
+
+    /**
+     * Records that an alternate flow graph was evaluated and notifies the listener
+     */
+    public void flowGraphEvaluated() {
+        if (!this.tracked) {
+            return;
+        }
+        this.evaluatedFlowGraphs.incrementAndGet();
+        this.listener.ifPresent(it -> it.onProgress(this));
+    }
+
+    /**
+     * Stops the analysis for the given reason, if it was not stopped before
+     * @param reason Reason for stopping the analysis
+     */
+    private void stop(StopReason reason) {
+        if (this.statistics.recordStop(reason)) {
+            logger.warn("Stopping analysis after " + this.getResolvedStates() + " of " + this.totalStates + " states: " + reason);
+        }
+    }
+
+    /**
+     * Returns the amount of states of which the alternate flow graphs were created
+     * @return Returns the amount of resolved states
+     */
+    public long getResolvedStates() {
+        return this.resolvedStates.get();
+    }
+
+    /**
+     * Returns the amount of states that are done, which are the resolved states and the states that were pruned without
+     * being created
+     * @return Returns the amount of completed states
+     */
+    public long getCompletedStates() {
+        return this.getResolvedStates() + this.statistics.getPrunedStates();
+    }
+
+    /**
+     * Returns the total amount of states known from the state enumeration, including states that are pruned
+     * @return Returns the total amount of states
+     */
+    public long getTotalStates() {
+        return this.totalStates;
+    }
+
+    /**
+     * Returns the amount of alternate flow graphs that were evaluated
+     * @return Returns the amount of evaluated flow graphs
+     */
+    public long getEvaluatedFlowGraphs() {
+        return this.evaluatedFlowGraphs.get();
+    }
+
+    /**
+     * Returns the time since the start of the resolution
+     * @return Returns the elapsed wall-clock time
+     */
+    public Duration getElapsedTime() {
+        return Duration.ofNanos(System.nanoTime() - this.startTime);
+    }
+
+    /**
+     * Returns the reason why the analysis was stopped before all states were resolved
+     * @return Returns the {@link StopReason}, if the analysis was stopped
+     */
+    public Optional<StopReason> getStopReason() {
+        return this.statistics.getStopReason();
+    }
+
+    @Override
+    public String toString() {
+        return "Completed " + this.getCompletedStates() + " of " + this.totalStates + " states, evaluated " + this.getEvaluatedFlowGraphs()
+                + " flow graphs";
+    }
+}
@@ -0,0 +1,202 @@
+package mdpa.gdpr.analysis.core;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Settings that control how a {@link mdpa.gdpr.analysis.GDPRLegalAssessmentAnalysis} resolves and evaluates its
+ * {@link mdpa.gdpr.analysis.dfd.DFDGDPRTransposeFlowGraph}s.
+ * <p/>
+ * Usually, the settings are created by the {@link mdpa.gdpr.analysis.GDPRLegalAssessmentAnalysisBuilder}
+ */
+public class AnalysisSettings {
+    /**
+     * Default maximum amount of partially transformed transpose flow graphs retained while exploring a state
+     */
+    public static final int DEFAULT_EXPLORATION_QUEUE_CAPACITY = 64;
+    /**
+     * State budget that does not limit the amount of resolved states
+     */
+    public static final long UNLIMITED_STATES = Long.MAX_VALUE;
+
+    private int parallelism;
+    private boolean deduplicateFlowGraphs;
+    private int explorationQueueCapacity;
+    private AnalysisMetrics metrics;
+    private Optional<ProgressListener> progressListener;
+    private Optional<CancellationToken> cancellationToken;
+    private Optional<Duration> timeBudget;
+    private long stateBudget;
+
+    /**
+     * Creates new {@link AnalysisSettings} with the default values, which resolve all flow graphs sequentially and keep
+     * structurally identical alternate flow graphs
+     */
+    public AnalysisSettings() {
+        this.parallelism = 1;
+        this.deduplicateFlowGraphs = false;
+        this.explorationQueueCapacity = DEFAULT_EXPLORATION_QUEUE_CAPACITY;
+        this.metrics = AnalysisMetrics.disabled();
+        this.progressListener = Optional.empty();
+        this.cancellationToken = Optional.empty();
+        this.timeBudget = Optional.empty();
+        this.stateBudget = UNLIMITED_STATES;
+    }
+
+    /**
+     * Returns the amount of threads that are used to resolve context dependent attributes
+     * @return Returns the parallelism of the analysis
+     */
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    /**
+     * Sets the amount of threads that are used to resolve context dependent attributes. A parallelism of one results in
+     * sequential resolution
+     * @param parallelism Parallelism of the analysis
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism of the analysis must be at least one");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns whether the analysis should use multiple threads
+     * @return Returns true, if the parallelism is larger than one. Otherwise, the method returns false
+     */
+    public boolean isParallel() {
+        return this.parallelism > 1;
+    }
+
+    /**
+     * Returns whether structurally identical alternate flow graphs should be collapsed into one
+     * @return Returns true, if alternate flow graphs are deduplicated. Otherwise, the method returns false
+     */
+    public boolean isDeduplicateFlowGraphs() {
+        return this.deduplicateFlowGraphs;
+    }
+
+    /**
+     * Sets whether structurally identical alternate flow graphs should be collapsed into one. The collapsed flow graph
+     * carries the states of all alternate flow graphs it replaces. Deduplication applies to collected alternate flow graphs
+     * and snapshots, while streamed and searched alternate flow graphs are never collapsed
+     * @param deduplicateFlowGraphs Whether alternate flow graphs should be deduplicated
+     */
+    public void setDeduplicateFlowGraphs(boolean deduplicateFlowGraphs) {
+        this.deduplicateFlowGraphs = deduplicateFlowGraphs;
+    }
+
+    /**
+     * Returns the maximum amount of partially transformed transpose flow graphs that are retained while exploring the
+     * additional states of a state
+     * @return Returns the capacity of the exploration queue
+     */
+    public int getExplorationQueueCapacity() {
+        return this.explorationQueueCapacity;
+    }
+
+    /**
+     * Sets the maximum amount of partially transformed transpose flow graphs that are retained while exploring the
+     * additional states of a state. Additional states exceeding the capacity are restarted from the original transpose flow
+     * graph. A capacity of zero always restarts additional states
+     * @param explorationQueueCapacity Capacity of the exploration queue
+     */
+    public void setExplorationQueueCapacity(int explorationQueueCapacity) {
+        if (explorationQueueCapacity < 0) {
+            throw new IllegalArgumentException("Capacity of the exploration queue must not be negative");
+        }
+        this.explorationQueueCapacity = explorationQueueCapacity;
+    }
+
+    /**
+     * Returns the registry the analysis records its metrics in
+     * @return Returns the {@link AnalysisMetrics} of the analysis, which are disabled by default
+     */
+    public AnalysisMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Sets the registry the analysis records its metrics in
+     * @param metrics {@link AnalysisMetrics} of the analysis. Use {@link AnalysisMetrics#disabled()} to disable metrics
+     */
+    public void setMetrics(AnalysisMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the listener that is notified about the progress of the analysis
+     * @return Returns the {@link ProgressListener}, if one is registered
+     */
+    public Optional<ProgressListener> getProgressListener() {
+        return this.progressListener;
+    }
+
+    /**
+     * Sets the listener that is notified each time a state was resolved or an alternate flow graph was evaluated
+     * @param progressListener {@link ProgressListener} of the analysis
+     */
+    public void setProgressListener(ProgressListener progressListener) {
+        this.progressListener = Optional.of(progressListener);
+    }
+
+    /**
+     * Returns the token that can be used to cancel the analysis
+     * @return Returns the {@link CancellationToken}, if one is registered
+     */
+    public Optional<CancellationToken> getCancellationToken() {
+        return this.cancellationToken;
+    }
+
+    /**
+     * Sets the token that can be used to cancel the analysis. Once the token is cancelled, the analysis stops resolving
+     * further states and returns the alternate flow graphs created until then
+     * @param cancellationToken {@link CancellationToken} of the analysis
+     */
+    public void setCancellationToken(CancellationToken cancellationToken) {
+        this.cancellationToken = Optional.of(cancellationToken);
+    }
+
+    /**
+     * Returns the maximum wall-clock time of resolving and evaluating the alternate flow graphs
+     * @return Returns the time budget, if the time of the analysis is limited
+     */
+    public Optional<Duration> getTimeBudget() {
+        return this.timeBudget;
+    }
+
+    /**
+     * Sets the maximum wall-clock time of resolving and evaluating the alternate flow graphs. Once the budget is exhausted,
+     * the analysis stops resolving further states and returns the alternate flow graphs created until then
+     * @param timeBudget Time budget of the analysis
+     */
+    public void setTimeBudget(Duration timeBudget) {
+        if (timeBudget.isNegative() || timeBudget.isZero()) {
+            throw new IllegalArgumentException("Time budget of the analysis must be positive");
+        }
+        this.timeBudget = Optional.of(timeBudget);
+    }
+
+    /**
+     * Returns the maximum amount of states that are resolved
+     * @return Returns the state budget, which is {@link #UNLIMITED_STATES} by default
+     */
+    public long getStateBudget() {
+        return this.stateBudget;
+    }
+
+    /**
+     * Sets the maximum amount of states that are resolved. Once the budget is exhausted, the analysis stops resolving
+     * further states and returns the alternate flow graphs created until then
+     * @param stateBudget State budget of the analysis
+     */
+    public void setStateBudget(long stateBudget) {
+        if (stateBudget < 1) {
+            throw new IllegalArgumentException("State budget of the analysis must be at least one");
+        }
+        this.stateBudget = stateBudget;
+    }
+}
@@ -0,0 +1,34 @@
+package mdpa.gdpr.analysis.core;
+
+/**
+ * Token used to cancel a running {@link mdpa.gdpr.analysis.GDPRLegalAssessmentAnalysis} from another thread.
+ * <p/>
+ * Cancellation is cooperative: The analysis checks the token before resolving each state and stops enumerating further
+ * states once the token is cancelled. Alternate flow graphs that were already created are still returned. See
+ * {@link AnalysisProgress}
+ */
+public class CancellationToken {
+    private volatile boolean cancelled;
+
+    /**
+     * Creates a new {@link CancellationToken} that is not cancelled
+     */
+    public CancellationToken() {
+        this.cancelled = false;
+    }
+
+    /**
+     * Requests the cancellation of all analyses using this token. Calling the method multiple times has no further effect
+     */
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    /**
+     * Returns whether the cancellation was requested
+     * @return Returns true, if {@link #cancel()} was called. Otherwise, the method returns false
+     */
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+}
@@ -1,11 +1,15 @@
 package mdpa.gdpr.analysis.core;
 
+import mdpa.gdpr.analysis.dfd.ApplicabilityMatrix;
 import mdpa.gdpr.analysis.dfd.DFDGDPRVertex;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * This class models a state for a {@link mdpa.gdpr.analysis.dfd.DFDGDPRTransposeFlowGraph} that has selected the stored
@@ -33,20 +37,45 @@ public record ContextAttributeState(List<ContextDependentAttributeScenario> sele
     /**
      * Create all possible {@link ContextAttributeState} that are possible to create from the given list of
      * {@link ContextDependentAttributeSource}
+     * <p/>
+     * Note: This materializes the whole state space. Use {@link #streamAllContextAttributeStates(List)} to enumerate the
+     * states lazily
      * @param contextDependentAttributeSources Given list of {@link ContextDependentAttributeSource} that are used in
      * finding all {@link ContextAttributeState}
      * @return Returns a list of all possible {@link ContextAttributeState}
      */
     public static List<ContextAttributeState> createAllContextAttributeStates(
             List<ContextDependentAttributeSource> contextDependentAttributeSources) {
-        List<List<ContextDependentAttributeScenario>> scenarios = new ArrayList<>();
-        for (ContextDependentAttributeSource source : contextDependentAttributeSources) {
-            scenarios.add(new ArrayList<>(source.getContextDependentAttributeScenarios()));
-        }
-        List<List<ContextDependentAttributeScenario>> cartesianProduct = cartesianProduct(scenarios);
-        return cartesianProduct.stream()
-                .map(ContextAttributeState::new)
-                .toList();
+        return streamAllContextAttributeStates(contextDependentAttributeSources).toList();
+    }
+
+    /**
+     * Lazily enumerates all possible {@link ContextAttributeState} that are possible to create from the given list of
+     * {@link ContextDependentAttributeSource}. States are created one at a time in the order of the Cartesian product of the
+     * scenarios of each source.
+     * @param contextDependentAttributeSources Given list of {@link ContextDependentAttributeSource} that are used in
+     * finding all {@link ContextAttributeState}
+     * @return Returns a sized stream of all possible {@link ContextAttributeState}
+     */
+    public static Stream<ContextAttributeState> streamAllContextAttributeStates(
+            List<ContextDependentAttributeSource> contextDependentAttributeSources) {
+        return StreamSupport.stream(new ContextAttributeStateSpliterator(contextDependentAttributeSources), false);
+    }
+
+    /**
+     * Lazily enumerates the {@link ContextAttributeState} of the given list of {@link ContextDependentAttributeSource} that
+     * select at least one applicable {@link ContextDependentAttributeScenario}. Sub-trees of the state space that cannot
+     * contain such a state are skipped without creating their states.
+     * @param contextDependentAttributeSources Given list of {@link ContextDependentAttributeSource} that are used in
+     * finding all {@link ContextAttributeState}
+     * @param applicability Predicate determining whether a scenario is applicable, which is evaluated once per scenario
+     * @param statistics {@link ContextAttributeStateStatistics} that record the amount of explored and pruned states
+     * @return Returns a stream of all {@link ContextAttributeState} with at least one applicable scenario
+     */
+    public static Stream<ContextAttributeState> streamApplicableContextAttributeStates(
+            List<ContextDependentAttributeSource> contextDependentAttributeSources, Predicate<ContextDependentAttributeScenario> applicability,
+            ContextAttributeStateStatistics statistics) {
+        return StreamSupport.stream(new ContextAttributeStateSpliterator(contextDependentAttributeSources, applicability, statistics), false);
     }
 
     /**
@@ -61,31 +90,15 @@ public record ContextAttributeState(List<ContextDependentAttributeScenario> sele
     }
 
     /**
-     * Calculates the cartesian product between the given lists
-     * @param lists List of lists that should be used when calculating the Cartesian product
-     * @param <T> Type of the list elements
-     * @return Returns the Cartesian product of the provided lists
+     * Determines whether the context attribute state cannot handle the given vertex using the precomputed applicability of
+     * the given {@link ApplicabilityMatrix}
+     * @param vertex Given vertex
+     * @param applicabilityMatrix {@link ApplicabilityMatrix} of the transpose flow graph containing the vertex
+     * @return Returns true, if the state cannot handle the vertex. Otherwise, the method returns false.
      */
-    private static <T> List<List<T>> cartesianProduct(List<List<T>> lists) {
-        List<List<T>> result = new ArrayList<>();
-        if (lists == null || lists.isEmpty()) {
-            result.add(new ArrayList<>());
-            return result;
-        }
-
-        List<T> firstList = lists.get(0);
-        List<List<T>> remainingLists = cartesianProduct(lists.subList(1, lists.size()));
-
-        for (T element : firstList) {
-            for (List<T> remainingList : remainingLists) {
-                List<T> temp = new ArrayList<>();
-                temp.add(element);
-                temp.addAll(remainingList);
-                result.add(temp);
-            }
-        }
-
-        return result;
+    public boolean doesNotHandle(DFDGDPRVertex vertex, ApplicabilityMatrix applicabilityMatrix) {
+        return this.selectedScenarios.stream()
+                .noneMatch(it -> applicabilityMatrix.isApplicable(it, vertex));
     }
 
     @Override
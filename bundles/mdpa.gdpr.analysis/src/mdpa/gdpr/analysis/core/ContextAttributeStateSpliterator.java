@@ -0,0 +1,318 @@
+package mdpa.gdpr.analysis.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * {@link Spliterator} enumerating all {@link ContextAttributeState}s that can be created from a list of
+ * {@link ContextDependentAttributeSource}s without materializing their Cartesian product.
+ * <p/>
+ * Each state is identified by its index in the product and decoded using a mixed-radix counter, where the radix of each
+ * digit is the number of scenarios of the corresponding source. The last source varies fastest, which results in the
+ * same order as the previous recursive Cartesian product. Memory usage is therefore bounded by the number of sources
+ * instead of by the amount of states.
+ * <p/>
+ * Optionally, the spliterator can prune the state space with an applicability predicate: States, where none of the
+ * selected scenarios are applicable, are skipped. Whenever such a state is found, the counter jumps directly to the next
+ * state that selects an applicable scenario, carrying into higher digits as needed. Pruned states are therefore never
+ * decoded one at a time
+ */
+public class ContextAttributeStateSpliterator implements Spliterator<ContextAttributeState> {
+    private final List<List<ContextDependentAttributeScenario>> scenarios;
+    private final long[] weights;
+    private final long total;
+    private final boolean[][] applicable;
+    private final boolean[] suffixApplicable;
+    private final ContextAttributeStateStatistics statistics;
+    private final int[] digits;
+    private long index;
+    private final long fence;
+
+    /**
+     * Creates a new {@link ContextAttributeStateSpliterator} that enumerates all states of the given list of
+     * {@link ContextDependentAttributeSource}
+     * @param contextDependentAttributeSources List of {@link ContextDependentAttributeSource} that span the state space
+     */
+    public ContextAttributeStateSpliterator(List<ContextDependentAttributeSource> contextDependentAttributeSources) {
+        this(contextDependentAttributeSources, null, new ContextAttributeStateStatistics());
+    }
+
+    /**
+     * Creates a new {@link ContextAttributeStateSpliterator} that enumerates only the states of the given list of
+     * {@link ContextDependentAttributeSource} that select at least one applicable scenario
+     * @param contextDependentAttributeSources List of {@link ContextDependentAttributeSource} that span the state space
+     * @param applicability Predicate determining whether a {@link ContextDependentAttributeScenario} is applicable. It is
+     * evaluated exactly once per scenario
+     * @param statistics Statistics recording the amount of explored and pruned states
+     */
+    public ContextAttributeStateSpliterator(List<ContextDependentAttributeSource> contextDependentAttributeSources,
+            Predicate<ContextDependentAttributeScenario> applicability, ContextAttributeStateStatistics statistics) {
+        this.scenarios = new ArrayList<>();
+        for (ContextDependentAttributeSource source : contextDependentAttributeSources) {
+            this.scenarios.add(List.copyOf(source.getContextDependentAttributeScenarios()));
+        }
+        this.weights = new long[this.scenarios.size()];
+        this.total = calculateWeights(this.scenarios, this.weights);
+        if (applicability != null) {
+            this.applicable = new boolean[this.scenarios.size()][];
+            for (int i = 0; i < this.scenarios.size(); i++) {
+                List<ContextDependentAttributeScenario> sourceScenarios = this.scenarios.get(i);
+                this.applicable[i] = new boolean[sourceScenarios.size()];
+                for (int j = 0; j < sourceScenarios.size(); j++) {
+                    this.applicable[i][j] = applicability.test(sourceScenarios.get(j));
+                }
+            }
+            this.suffixApplicable = calculateSuffixApplicability(this.applicable);
+        } else {
+            this.applicable = null;
+            this.suffixApplicable = null;
+        }
+        this.statistics = statistics;
+        this.digits = new int[this.scenarios.size()];
+        this.index = 0;
+        this.fence = this.total;
+    }
+
+    /**
+     * Creates a new {@link ContextAttributeStateSpliterator} that covers the given index range of the state space of the
+     * given parent spliterator
+     * @param parent Spliterator that is split
+     * @param index First index (inclusive) covered by the spliterator
+     * @param fence Last index (exclusive) covered by the spliterator
+     */
+    private ContextAttributeStateSpliterator(ContextAttributeStateSpliterator parent, long index, long fence) {
+        this.scenarios = parent.scenarios;
+        this.weights = parent.weights;
+        this.total = parent.total;
+        this.applicable = parent.applicable;
+        this.suffixApplicable = parent.suffixApplicable;
+        this.statistics = parent.statistics;
+        this.digits = new int[this.scenarios.size()];
+        this.index = index;
+        this.fence = fence;
+    }
+
+    /**
+     * Calculates the weight of each digit of the mixed-radix counter. The weight of a digit is the product of the radices of
+     * all following digits
+     * @param scenarios Scenarios of each source that span the state space
+     * @param weights Array the weight of each digit is stored in
+     * @return Returns the total amount of states
+     */
+    private static long calculateWeights(List<List<ContextDependentAttributeScenario>> scenarios, long[] weights) {
+        long weight = 1;
+        for (int i = scenarios.size() - 1; i >= 0; i--) {
+            weights[i] = weight;
+            try {
+                weight = Math.multiplyExact(weight, scenarios.get(i)
+                        .size());
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Number of context attribute states exceeds the supported maximum", e);
+            }
+        }
+        return weight;
+    }
+
+    /**
+     * Calculates for each digit, whether the digit or any following digit has an applicable scenario
+     * @param applicable Applicability of each scenario of each source
+     * @return Returns an array, where the entry at index i denotes whether any source at index i or later has an
+     * applicable scenario
+     */
+    private static boolean[] calculateSuffixApplicability(boolean[][] applicable) {
+        boolean[] suffixApplicable = new boolean[applicable.length + 1];
+        for (int i = applicable.length - 1; i >= 0; i--) {
+            boolean sourceApplicable = false;
+            for (boolean scenarioApplicable : applicable[i]) {
+                sourceApplicable |= scenarioApplicable;
+            }
+            suffixApplicable[i] = sourceApplicable || suffixApplicable[i + 1];
+        }
+        return suffixApplicable;
+    }
+
+    /**
+     * Decodes the digits of the state with the given index in the Cartesian product into the digit buffer of the
+     * spliterator, which is reused for all states
+     * @param stateIndex Index of the state
+     */
+    private void decode(long stateIndex) {
+        long remainder = stateIndex;
+        for (int i = 0; i < this.digits.length; i++) {
+            this.digits[i] = (int) (remainder / this.weights[i]);
+            remainder %= this.weights[i];
+        }
+    }
+
+    /**
+     * Creates the state that selects the given scenario for each source
+     * @param digits Index of the selected scenario for each source
+     * @return Returns the {@link ContextAttributeState} with the selected scenarios
+     */
+    private ContextAttributeState createState(int[] digits) {
+        List<ContextDependentAttributeScenario> selectedScenarios = new ArrayList<>(digits.length);
+        for (int i = 0; i < digits.length; i++) {
+            selectedScenarios.add(this.scenarios.get(i)
+                    .get(digits[i]));
+        }
+        return new ContextAttributeState(selectedScenarios);
+    }
+
+    /**
+     * Encodes the digits of the digit buffer into the index of the state in the Cartesian product
+     * @return Returns the index of the state
+     */
+    private long encode() {
+        long stateIndex = 0;
+        for (int i = 0; i < this.digits.length; i++) {
+            stateIndex += this.digits[i] * this.weights[i];
+        }
+        return stateIndex;
+    }
+
+    /**
+     * Advances the digit buffer to the next state that selects an applicable scenario. The current state of the buffer must
+     * not select any applicable scenario.
+     * <p/>
+     * Going from the last to the first digit, the digit is increased to the smallest value, for which the state can
+     * select an applicable scenario, and the following digits are set to the smallest suffix that keeps the state
+     * applicable. If no such value exists, the digit carries into the previous digit
+     * @return Returns true, if a following applicable state exists. Otherwise, the method returns false
+     */
+    private boolean advanceToApplicableState() {
+        for (int i = this.digits.length - 1; i >= 0; i--) {
+            int next = this.digits[i] + 1;
+            if (next >= this.applicable[i].length) {
+                continue;
+            }
+            if (this.applicable[i][next]) {
+                this.digits[i] = next;
+                this.clearDigits(i + 1);
+                return true;
+            }
+            if (this.suffixApplicable[i + 1]) {
+                this.digits[i] = next;
+                this.setSmallestApplicableSuffix(i + 1);
+                return true;
+            }
+            int applicableScenario = this.findApplicableScenario(i, next + 1);
+            if (applicableScenario >= 0) {
+                this.digits[i] = applicableScenario;
+                this.clearDigits(i + 1);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sets the digits starting at the given digit to the smallest suffix that selects an applicable scenario. Such a
+     * suffix must exist. If a digit of the suffix is applicable with its first scenario, all digits are zero. Otherwise,
+     * only the last digit with an applicable scenario selects its first applicable scenario
+     * @param from First digit of the suffix
+     */
+    private void setSmallestApplicableSuffix(int from) {
+        this.clearDigits(from);
+        int last = -1;
+        for (int i = from; i < this.digits.length; i++) {
+            if (this.applicable[i].length > 0 && this.applicable[i][0]) {
+                return;
+            }
+            if (this.findApplicableScenario(i, 0) >= 0) {
+                last = i;
+            }
+        }
+        this.digits[last] = this.findApplicableScenario(last, 0);
+    }
+
+    /**
+     * Sets the digits starting at the given digit to zero
+     * @param from First digit that is cleared
+     */
+    private void clearDigits(int from) {
+        for (int i = from; i < this.digits.length; i++) {
+            this.digits[i] = 0;
+        }
+    }
+
+    /**
+     * Finds the first applicable scenario of the source at the given digit, starting at the given scenario
+     * @param digit Digit of the source
+     * @param from First scenario that is checked
+     * @return Returns the index of the applicable scenario or -1, if no following scenario is applicable
+     */
+    private int findApplicableScenario(int digit, int from) {
+        for (int scenario = from; scenario < this.applicable[digit].length; scenario++) {
+            if (this.applicable[digit][scenario]) {
+                return scenario;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super ContextAttributeState> action) {
+        while (this.index < this.fence) {
+            this.decode(this.index);
+            if (this.applicable == null || this.selectsApplicableScenario(this.digits)) {
+                this.index++;
+                this.statistics.recordExplored(1);
+                action.accept(this.createState(this.digits));
+                return true;
+            }
+            long next = this.advanceToApplicableState() ? Math.min(this.encode(), this.fence) : this.fence;
+            this.statistics.recordPruned(next - this.index);
+            this.index = next;
+        }
+        return false;
+    }
+
+    /**
+     * Determines whether the state with the given digits selects at least one applicable scenario
+     * @param digits Index of the selected scenario for each source
+     * @return Returns true, if any of the selected scenarios is applicable. Otherwise, the method returns false
+     */
+    private boolean selectsApplicableScenario(int[] digits) {
+        for (int i = 0; i < digits.length; i++) {
+            if (this.applicable[i][digits[i]]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Spliterator<ContextAttributeState> trySplit() {
+        long middle = this.index + (this.fence - this.index) / 2;
+        if (middle <= this.index) {
+            return null;
+        }
+        ContextAttributeStateSpliterator prefix = new ContextAttributeStateSpliterator(this, this.index, middle);
+        this.index = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.fence - this.index;
+    }
+
+    @Override
+    public int characteristics() {
+        if (this.applicable != null) {
+            return ORDERED | NONNULL | IMMUTABLE;
+        }
+        return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+
+    /**
+     * Returns the total amount of states in the enumerated state space, including states that are pruned
+     * @return Returns the size of the Cartesian product of all scenarios
+     */
+    public long getTotalStates() {
+        return this.total;
+    }
+}
@@ -0,0 +1,120 @@
+package mdpa.gdpr.analysis.core;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Counts the {@link ContextAttributeState}s that were explored or pruned while enumerating the state space of one or
+ * multiple {@link mdpa.gdpr.analysis.dfd.DFDGDPRTransposeFlowGraph}s.
+ * <p/>
+ * The counters are thread-safe, so a single instance may be shared between parallel enumerations
+ */
+public class ContextAttributeStateStatistics {
+    private final AtomicLong exploredStates;
+    private final AtomicLong prunedStates;
+    private final AtomicLong duplicateFlowGraphs;
+    private final AtomicReference<AnalysisProgress.StopReason> stopReason;
+
+    /**
+     * Creates a new {@link ContextAttributeStateStatistics} with all counters set to zero
+     */
+    public ContextAttributeStateStatistics() {
+        this.exploredStates = new AtomicLong();
+        this.prunedStates = new AtomicLong();
+        this.duplicateFlowGraphs = new AtomicLong();
+        this.stopReason = new AtomicReference<>();
+    }
+
+    /**
+     * Records that the given amount of states has been explored
+     * @param amount Amount of explored states
+     */
+    public void recordExplored(long amount) {
+        this.exploredStates.addAndGet(amount);
+    }
+
+    /**
+     * Records that the given amount of states has been pruned without being created
+     * @param amount Amount of pruned states
+     */
+    public void recordPruned(long amount) {
+        this.prunedStates.addAndGet(amount);
+    }
+
+    /**
+     * Records that the given amount of alternate flow graphs were collapsed into a structurally identical flow graph
+     * @param amount Amount of duplicate alternate flow graphs
+     */
+    public void recordDuplicates(long amount) {
+        this.duplicateFlowGraphs.addAndGet(amount);
+    }
+
+    /**
+     * Records that the enumeration was stopped before all states were explored
+     * @param reason Reason for stopping the enumeration
+     * @return Returns true, if the enumeration was not stopped before. Otherwise, the first reason is kept and the method
+     * returns false
+     */
+    public boolean recordStop(AnalysisProgress.StopReason reason) {
+        return this.stopReason.compareAndSet(null, reason);
+    }
+
+    /**
+     * Returns the amount of states that were handed to the resolution of alternate flow graphs
+     * @return Returns the amount of explored states
+     */
+    public long getExploredStates() {
+        return this.exploredStates.get();
+    }
+
+    /**
+     * Returns the amount of states that were skipped, as none of their scenarios were applicable
+     * @return Returns the amount of pruned states
+     */
+    public long getPrunedStates() {
+        return this.prunedStates.get();
+    }
+
+    /**
+     * Returns the total amount of states in the enumerated state space
+     * @return Returns the sum of explored and pruned states
+     */
+    public long getTotalStates() {
+        return this.getExploredStates() + this.getPrunedStates();
+    }
+
+    /**
+     * Returns the amount of alternate flow graphs that were collapsed into a structurally identical flow graph
+     * @return Returns the amount of duplicate alternate flow graphs
+     */
+    public long getDuplicateFlowGraphs() {
+        return this.duplicateFlowGraphs.get();
+    }
+
+    /**
+     * Returns the reason why the enumeration was stopped before all states were explored
+     * @return Returns the {@link AnalysisProgress.StopReason}, if the enumeration was stopped
+     */
+    public Optional<AnalysisProgress.StopReason> getStopReason() {
+        return Optional.ofNullable(this.stopReason.get());
+    }
+
+    /**
+     * Returns whether all states were explored. If the enumeration was stopped, the alternate flow graphs created by the
+     * enumeration are only a partial result
+     * @return Returns true, if the enumeration was not stopped. Otherwise, the method returns false
+     */
+    public boolean isComplete() {
+        return this.stopReason.get() == null;
+    }
+
+    @Override
+    public String toString() {
+        String result = "Explored " + this.getExploredStates() + " of " + this.getTotalStates() + " states (" + this.getPrunedStates() + " pruned, "
+                + this.getDuplicateFlowGraphs() + " duplicate flow graphs)";
+        return this.getStopReason()
+                .map(it -> result + ", stopped: " + it)
+                .orElse(result);
+    }
+}
@@ -66,7 +66,7 @@ public class ContextDependentAttributeScenario {
      */
     public boolean applicable(DFDGDPRVertex vertex) {
         logger.trace("Determining whether " + this.name + " can be applied to " + vertex);
-        if (!vertex.getRelatedElements().contains(this.contextDependentAttributeSource.getAnnotation().getAnnotatedElement())) {
+        if (!vertex.hasRelatedElement(this.contextDependentAttributeSource.getAnnotation().getAnnotatedElement())) {
             logger.trace("Cannot apply " + this.name + " to vertex, as it does not have the needed elements in context!");
             return false;
         }
@@ -75,11 +75,8 @@ public class ContextDependentAttributeSource {
      * Otherwise, the method returns false.
      */
     public boolean applicable(Collection<DFDGDPRVertex> vertices) {
-        if (!vertices.stream()
-                .map(DFDGDPRVertex::getRelatedElements)
-                .flatMap(List::stream)
-                .toList()
-                .contains(this.annotatedElement)) {
+        if (vertices.stream()
+                .noneMatch(it -> it.hasRelatedElement(this.annotatedElement))) {
             return false;
         }
         return vertices.stream()
@@ -96,8 +93,7 @@ public class ContextDependentAttributeSource {
      * @return Returns true, if the source is applicable to the vertex. Otherwise, the method returns false
      */
     public boolean applicable(DFDGDPRVertex vertex) {
-        if (!vertex.getRelatedElements()
-                .contains(this.annotatedElement)) {
+        if (!vertex.hasRelatedElement(this.annotatedElement)) {
             return false;
         }
         if (this.resolvedUncertainty) {
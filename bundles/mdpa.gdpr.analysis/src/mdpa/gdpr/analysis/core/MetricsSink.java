@@ -0,0 +1,15 @@
+package mdpa.gdpr.analysis.core;
+
+/**
+ * Receives the {@link AnalysisMetrics} of an analysis when they are published, e.g. to forward them to a monitoring
+ * system or a file
+ */
+@FunctionalInterface
+public interface MetricsSink {
+    /**
+     * Handles the published metrics. The metrics may still change afterward, so sinks should read the required values
+     * immediately, e.g. using {@link AnalysisMetrics#toJson()}
+     * @param metrics Published metrics of the analysis
+     */
+    void publish(AnalysisMetrics metrics);
+}
@@ -0,0 +1,98 @@
+package mdpa.gdpr.analysis.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * Records the elements of the GDPR and context property models that are changed while the recorder is attached.
+ * <p/>
+ * The recorded elements are the notifiers of all change notifications and the elements that were added or removed by
+ * them. They are used by {@link mdpa.gdpr.analysis.GDPRLegalAssessmentAnalysis#reanalyze} to determine which transpose
+ * flow graphs need to be analyzed again
+ */
+public class ModelChangeRecorder extends EContentAdapter {
+    private final Set<EObject> changedElements;
+    private final List<Notifier> observedTargets;
+
+    /**
+     * Creates a new {@link ModelChangeRecorder} that does not observe any model yet
+     */
+    public ModelChangeRecorder() {
+        this.changedElements = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        this.observedTargets = new ArrayList<>();
+    }
+
+    /**
+     * Starts recording the changes of the given model and all of its contents
+     * @param target Root element of the model that should be observed
+     */
+    public void observe(Notifier target) {
+        target.eAdapters()
+                .add(this);
+        this.observedTargets.add(target);
+    }
+
+    /**
+     * Stops recording changes of all observed models. The already recorded changes are retained
+     */
+    public void dispose() {
+        this.observedTargets.forEach(it -> it.eAdapters()
+                .remove(this));
+        this.observedTargets.clear();
+    }
+
+    /**
+     * Returns the elements that were changed, added or removed since the recorder was created or last cleared
+     * @return Returns a copy of the set of changed elements
+     */
+    public Set<EObject> getChangedElements() {
+        synchronized (this.changedElements) {
+            Set<EObject> result = Collections.newSetFromMap(new IdentityHashMap<>());
+            result.addAll(this.changedElements);
+            return result;
+        }
+    }
+
+    /**
+     * Removes all recorded changes
+     */
+    public void clear() {
+        this.changedElements.clear();
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+        if (notification.isTouch()) {
+            return;
+        }
+        if (notification.getNotifier() instanceof EObject notifier) {
+            this.changedElements.add(notifier);
+        }
+        this.recordValue(notification.getOldValue());
+        this.recordValue(notification.getNewValue());
+    }
+
+    /**
+     * Records the given old or new value of a notification, if it is a model element or a collection of model elements
+     * @param value Value of the notification
+     */
+    private void recordValue(Object value) {
+        if (value instanceof EObject element) {
+            this.changedElements.add(element);
+        } else if (value instanceof Collection<?> elements) {
+            elements.stream()
+                    .filter(EObject.class::isInstance)
+                    .map(EObject.class::cast)
+                    .forEach(this.changedElements::add);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package mdpa.gdpr.analysis.core;
+
+/**
+ * Receives the {@link AnalysisProgress} of an analysis each time a state was resolved or an alternate flow graph was
+ * evaluated, e.g. to display a progress bar
+ */
+@FunctionalInterface
+public interface ProgressListener {
+    /**
+     * Handles the updated progress. If the analysis runs in parallel, the method is called concurrently and must therefore
+     * be thread-safe. As the method is called on the threads of the analysis, it should return quickly
+     * @param progress Current progress of the analysis
+     */
+    void onProgress(AnalysisProgress progress);
+}
@@ -6,7 +6,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import mdpa.gdpr.analysis.jfr.TransformationEvent;
 import mdpa.gdpr.analysis.resource.DataFlowDiagramAndDataDictionary;
+import mdpa.gdpr.analysis.resource.TransformationCache;
+import mdpa.gdpr.analysis.resource.TransformationCache.CachedTransformation;
+import mdpa.gdpr.analysis.utils.LabelIndex;
 import mdpa.gdpr.dfdconverter.GDPR2DFD;
 import mdpa.gdpr.dfdconverter.tracemodel.tracemodel.NodeTrace;
 import mdpa.gdpr.dfdconverter.tracemodel.tracemodel.TraceModel;
@@ -32,6 +36,7 @@ public class TransformationManager {
 
     private final Map<Node, Processing> dfdToGDPRMapping;
     private final List<ContextDependentAttributeSource> contextDependentAttributes;
+    private final Optional<TransformationCache> transformationCache;
 
     /**
      * Creates a new empty {@link TransformationManager}
@@ -39,21 +44,61 @@ public class TransformationManager {
     public TransformationManager() {
         this.dfdToGDPRMapping = new HashMap<>();
         this.contextDependentAttributes = new ArrayList<>();
+        this.transformationCache = Optional.empty();
     }
 
     /**
-     * Converts model to DFD and saves trace model
+     * Creates a new empty {@link TransformationManager} that reuses the results of previous transformations stored in the
+     * given cache
+     * @param transformationCache Cache containing the results of previous transformations
+     */
+    public TransformationManager(TransformationCache transformationCache) {
+        this.dfdToGDPRMapping = new HashMap<>();
+        this.contextDependentAttributes = new ArrayList<>();
+        this.transformationCache = Optional.of(transformationCache);
+    }
+
+    /**
+     * Converts model to DFD and saves trace model.
+     * <p/>
+     * If the {@link TransformationManager} uses a {@link TransformationCache} that contains the result for the given
+     * models, the cached data flow diagram, data dictionary and trace are loaded instead of converting the model.
+     * Otherwise, the result of the conversion is stored in the cache.
+     * <p/>
+     * The trace and context dependent attributes of a previous transformation are discarded
      * @param gdprModel Input GDPR Model
      * @param scopeDependentAssessmentFacts Input context property model
      * @return Returns the data flow diagram and data dictionary of the converted model
      */
     public DataFlowDiagramAndDataDictionary transform(LegalAssessmentFacts gdprModel, ScopeDependentAssessmentFacts scopeDependentAssessmentFacts) {
-        GDPR2DFD converter = new GDPR2DFD(gdprModel);
-        converter.transform();
-        this.processTraceModel(converter.getGDPR2DFDTrace());
-        this.generateAssessmentFactLabels(scopeDependentAssessmentFacts, converter.getDataDictionary());
+        TransformationEvent event = new TransformationEvent();
+        event.begin();
+        this.dfdToGDPRMapping.clear();
+        this.contextDependentAttributes.clear();
+        Optional<String> cacheKey = this.transformationCache.flatMap(it -> it.computeKey(gdprModel, scopeDependentAssessmentFacts));
+        Optional<CachedTransformation> cachedTransformation = cacheKey.flatMap(key -> this.transformationCache.get()
+                .load(key, gdprModel));
+
+        DataFlowDiagramAndDataDictionary dataFlowDiagramAndDataDictionary;
+        if (cachedTransformation.isPresent()) {
+            cachedTransformation.get()
+                    .trace()
+                    .forEach((node, processing) -> this.addMapping(processing, node));
+            dataFlowDiagramAndDataDictionary = cachedTransformation.get()
+                    .dataFlowDiagramAndDataDictionary();
+        } else {
+            GDPR2DFD converter = new GDPR2DFD(gdprModel);
+            converter.transform();
+            this.processTraceModel(converter.getGDPR2DFDTrace());
+            this.generateAssessmentFactLabels(scopeDependentAssessmentFacts, converter.getDataDictionary());
+            dataFlowDiagramAndDataDictionary = new DataFlowDiagramAndDataDictionary(converter.getDataFlowDiagram(), converter.getDataDictionary());
+            cacheKey.ifPresent(key -> this.transformationCache.get()
+                    .store(key, dataFlowDiagramAndDataDictionary, this.dfdToGDPRMapping));
+        }
         this.processContextDependentAttributes(scopeDependentAssessmentFacts);
-        return new DataFlowDiagramAndDataDictionary(converter.getDataFlowDiagram(), converter.getDataDictionary());
+        LabelIndex.of(dataFlowDiagramAndDataDictionary.dataDictionary());
+        event.commit(gdprModel, dataFlowDiagramAndDataDictionary, this.contextDependentAttributes.size(), cachedTransformation.isPresent());
+        return dataFlowDiagramAndDataDictionary;
     }
 
     /**
@@ -102,15 +147,17 @@ public class TransformationManager {
             LabelType type = datadictionaryFactory.eINSTANCE.createLabelType();
             type.setEntityName(scopeDependentAssessmentFact.getEntityName());
             type.setId(scopeDependentAssessmentFact.getId());
-            dataDictionary.getLabelTypes()
-                    .add(type);
+            List<Label> labels = new ArrayList<>();
             for (Expression expression : scopeDependentAssessmentFact.getExpression()) {
                 Label label = datadictionaryFactory.eINSTANCE.createLabel();
                 label.setEntityName(expression.getEntityName());
                 label.setId(expression.getId());
-                type.getLabel()
-                        .add(label);
+                labels.add(label);
             }
+            type.getLabel()
+                    .addAll(labels);
+            dataDictionary.getLabelTypes()
+                    .add(type);
         }
     }
 
@@ -0,0 +1,30 @@
+package mdpa.gdpr.analysis.core;
+
+import java.util.List;
+import mdpa.gdpr.analysis.dfd.DFDGDPRTransposeFlowGraph;
+import mdpa.gdpr.analysis.dfd.DFDGDPRVertex;
+
+/**
+ * Witness of a violated constraint found by {@link mdpa.gdpr.analysis.GDPRLegalAssessmentAnalysis#findViolations}
+ * @param transposeFlowGraph Evaluated alternate flow graph that violates the constraint
+ * @param violatingVertices Vertices of the alternate flow graph that violate the constraint
+ */
+public record Violation(DFDGDPRTransposeFlowGraph transposeFlowGraph, List<DFDGDPRVertex> violatingVertices) {
+    /**
+     * Creates a new {@link Violation} for the given alternate flow graph and its violating vertices
+     * @param transposeFlowGraph Evaluated alternate flow graph that violates the constraint
+     * @param violatingVertices Vertices of the alternate flow graph that violate the constraint
+     */
+    public Violation(DFDGDPRTransposeFlowGraph transposeFlowGraph, List<DFDGDPRVertex> violatingVertices) {
+        this.transposeFlowGraph = transposeFlowGraph;
+        this.violatingVertices = List.copyOf(violatingVertices);
+    }
+
+    /**
+     * Returns the {@link ContextAttributeState} of the violating alternate flow graph
+     * @return Returns the state of context dependent attributes in which the constraint is violated
+     */
+    public ContextAttributeState getContextAttributeState() {
+        return this.transposeFlowGraph.getContextAttributeState();
+    }
+}
@@ -0,0 +1,107 @@
+package mdpa.gdpr.analysis.dfd;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import mdpa.gdpr.analysis.core.AnalysisSettings;
+import mdpa.gdpr.analysis.core.ContextAttributeStateStatistics;
+import org.dataflowanalysis.analysis.resource.ResourceProvider;
+
+/**
+ * Result of resolving and evaluating the transpose flow graphs of an analysis that can be updated incrementally after
+ * the GDPR or context property model changed.
+ * <p/>
+ * The snapshot stores the evaluated alternate flow graphs of each complete transpose flow graph. When the analysis is
+ * repeated after a change, the alternate flow graphs of transpose flow graphs that are not affected by the change are
+ * taken from the previous snapshot. See
+ * {@link DFDGDPRFlowGraphCollection#createSnapshot(AnalysisSnapshot, java.util.Collection)}
+ */
+public final class AnalysisSnapshot {
+    private final Map<FlowGraphKey, List<DFDGDPRTransposeFlowGraph>> alternateFlowGraphs;
+    private final ResourceProvider resourceProvider;
+    private final AnalysisSettings settings;
+    private final ContextAttributeStateStatistics stateStatistics;
+    private final int reusedFlowGraphs;
+    private final int reanalyzedFlowGraphs;
+
+    /**
+     * Creates a new {@link AnalysisSnapshot} with the given evaluated alternate flow graphs
+     * @param alternateFlowGraphs Evaluated alternate flow graphs of each complete transpose flow graph, in the order of the
+     * complete transpose flow graphs
+     * @param resourceProvider {@link ResourceProvider} that has the relevant model elements loaded
+     * @param settings {@link AnalysisSettings} used when resolving and evaluating the flow graphs
+     * @param stateStatistics {@link ContextAttributeStateStatistics} of the state enumeration of the reanalyzed flow graphs
+     * @param reusedFlowGraphs Amount of complete transpose flow graphs taken from a previous snapshot
+     * @param reanalyzedFlowGraphs Amount of complete transpose flow graphs that were resolved and evaluated
+     */
+    AnalysisSnapshot(Map<FlowGraphKey, List<DFDGDPRTransposeFlowGraph>> alternateFlowGraphs, ResourceProvider resourceProvider,
+            AnalysisSettings settings, ContextAttributeStateStatistics stateStatistics, int reusedFlowGraphs, int reanalyzedFlowGraphs) {
+        this.alternateFlowGraphs = alternateFlowGraphs;
+        this.resourceProvider = resourceProvider;
+        this.settings = settings;
+        this.stateStatistics = stateStatistics;
+        this.reusedFlowGraphs = reusedFlowGraphs;
+        this.reanalyzedFlowGraphs = reanalyzedFlowGraphs;
+    }
+
+    /**
+     * Returns the evaluated alternate flow graphs of the transpose flow graph with the given key
+     * @param key Key of the complete transpose flow graph
+     * @return Returns the evaluated alternate flow graphs, if the snapshot contains the transpose flow graph
+     */
+    Optional<List<DFDGDPRTransposeFlowGraph>> getAlternateFlowGraphs(FlowGraphKey key) {
+        return Optional.ofNullable(this.alternateFlowGraphs.get(key));
+    }
+
+    /**
+     * Returns a flow graph collection containing all evaluated alternate flow graphs of the snapshot.
+     * <p/>
+     * Note: Alternate flow graphs that were taken from a previous snapshot reference the data flow diagram of the
+     * transformation that created them
+     * @return Returns a new {@link DFDGDPRFlowGraphCollection} containing the evaluated alternate flow graphs
+     */
+    public DFDGDPRFlowGraphCollection getFlowGraphs() {
+        List<DFDGDPRTransposeFlowGraph> transposeFlowGraphs = this.alternateFlowGraphs.values()
+                .stream()
+                .flatMap(Collection::stream)
+                .toList();
+        return new DFDGDPRFlowGraphCollection(transposeFlowGraphs, this.resourceProvider, this.settings, this.stateStatistics);
+    }
+
+    /**
+     * Returns the statistics of the state enumeration of the transpose flow graphs that were resolved for this snapshot
+     * @return Returns the {@link ContextAttributeStateStatistics} of the snapshot
+     */
+    public ContextAttributeStateStatistics getStateStatistics() {
+        return this.stateStatistics;
+    }
+
+    /**
+     * Returns whether all states of the reanalyzed flow graphs were resolved and evaluated. An incomplete snapshot only
+     * contains the alternate flow graphs created before the analysis was cancelled or exhausted a budget and is not reused
+     * by an incremental reanalysis
+     * @return Returns true, if the snapshot is complete. Otherwise, the method returns false
+     * @see ContextAttributeStateStatistics#getStopReason()
+     */
+    public boolean isComplete() {
+        return this.stateStatistics.isComplete();
+    }
+
+    /**
+     * Returns the amount of complete transpose flow graphs of which the alternate flow graphs were taken from the previous
+     * snapshot
+     * @return Returns the amount of reused transpose flow graphs
+     */
+    public int getReusedFlowGraphs() {
+        return this.reusedFlowGraphs;
+    }
+
+    /**
+     * Returns the amount of complete transpose flow graphs that were resolved and evaluated for this snapshot
+     * @return Returns the amount of reanalyzed transpose flow graphs
+     */
+    public int getReanalyzedFlowGraphs() {
+        return this.reanalyzedFlowGraphs;
+    }
+}
@@ -0,0 +1,117 @@
+package mdpa.gdpr.analysis.dfd;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import mdpa.gdpr.analysis.core.ContextDependentAttributeScenario;
+import mdpa.gdpr.analysis.core.ContextDependentAttributeSource;
+
+/**
+ * Stores the applicability of {@link ContextDependentAttributeSource}s and {@link ContextDependentAttributeScenario}s to
+ * the vertices of a transpose flow graph as bitsets.
+ * <p/>
+ * The applicability of sources and scenarios only depends on the {@link RelatedElements} of a vertex. Therefore, each
+ * column of the matrix corresponds to one distinct {@link RelatedElements} instance, which is shared by all copies of a
+ * vertex. This allows reusing the matrix for all alternate flow graphs derived from the same transpose flow graph.
+ * <p/>
+ * Rows are only stored for the sources given on creation and their scenarios, which live as long as the model. Sources
+ * and scenarios that are created while resolving uncertainties exist only for a single state. Their applicability is
+ * computed on each query instead of being stored, so that the matrix does not grow with the explored state space. The
+ * matrix is immutable and therefore thread-safe
+ */
+public final class ApplicabilityMatrix {
+    private final Map<RelatedElements, Integer> columns;
+    private final List<DFDGDPRVertex> representatives;
+    private final Map<ContextDependentAttributeSource, BitSet> sourceRows;
+    private final Map<ContextDependentAttributeScenario, BitSet> scenarioRows;
+
+    /**
+     * Creates a new {@link ApplicabilityMatrix} for the given vertices and computes the rows of the given sources and their
+     * scenarios
+     * @param vertices Vertices of the transpose flow graph
+     * @param sources {@link ContextDependentAttributeSource}s of the model whose applicability is stored
+     */
+    public ApplicabilityMatrix(Collection<DFDGDPRVertex> vertices, Collection<ContextDependentAttributeSource> sources) {
+        this.columns = new IdentityHashMap<>();
+        this.representatives = new ArrayList<>();
+        for (DFDGDPRVertex vertex : vertices) {
+            if (!this.columns.containsKey(vertex.getRelatedElementSet())) {
+                this.columns.put(vertex.getRelatedElementSet(), this.representatives.size());
+                this.representatives.add(vertex);
+            }
+        }
+        this.sourceRows = new IdentityHashMap<>();
+        this.scenarioRows = new IdentityHashMap<>();
+        for (ContextDependentAttributeSource source : sources) {
+            this.sourceRows.put(source, this.createRow(source::applicable));
+            for (ContextDependentAttributeScenario scenario : source.getContextDependentAttributeScenarios()) {
+                this.scenarioRows.put(scenario, this.createRow(scenario::applicable));
+            }
+        }
+    }
+
+    /**
+     * Determines whether the given {@link ContextDependentAttributeSource} is applicable to the given vertex
+     * @param source {@link ContextDependentAttributeSource} that is checked
+     * @param vertex {@link DFDGDPRVertex} that is checked
+     * @return Returns true, if the source is applicable at the vertex. Otherwise, the method returns false
+     * @see ContextDependentAttributeSource#applicable(DFDGDPRVertex)
+     */
+    public boolean isApplicable(ContextDependentAttributeSource source, DFDGDPRVertex vertex) {
+        Integer column = this.columns.get(vertex.getRelatedElementSet());
+        BitSet row = this.sourceRows.get(source);
+        if (column == null || row == null) {
+            return source.applicable(vertex);
+        }
+        return row.get(column);
+    }
+
+    /**
+     * Determines whether the given {@link ContextDependentAttributeScenario} is applicable to the given vertex
+     * @param scenario {@link ContextDependentAttributeScenario} that is checked
+     * @param vertex {@link DFDGDPRVertex} that is checked
+     * @return Returns true, if the scenario is applicable at the vertex. Otherwise, the method returns false
+     * @see ContextDependentAttributeScenario#applicable(DFDGDPRVertex)
+     */
+    public boolean isApplicable(ContextDependentAttributeScenario scenario, DFDGDPRVertex vertex) {
+        Integer column = this.columns.get(vertex.getRelatedElementSet());
+        BitSet row = this.scenarioRows.get(scenario);
+        if (column == null || row == null) {
+            return scenario.applicable(vertex);
+        }
+        return row.get(column);
+    }
+
+    /**
+     * Determines whether the given {@link ContextDependentAttributeSource} is applicable to any vertex of the matrix
+     * @param source {@link ContextDependentAttributeSource} that is checked
+     * @return Returns true, if the source is applicable at least one vertex. Otherwise, the method returns false
+     * @see ContextDependentAttributeSource#applicable(Collection)
+     */
+    public boolean isApplicableToAny(ContextDependentAttributeSource source) {
+        BitSet row = this.sourceRows.get(source);
+        if (row == null) {
+            return source.applicable(this.representatives);
+        }
+        return !row.isEmpty();
+    }
+
+    /**
+     * Creates a row of the matrix by evaluating the given applicability predicate for each column
+     * @param applicability Predicate determining the applicability at a vertex
+     * @return Returns the bitset with a set bit for each column the predicate holds for
+     */
+    private BitSet createRow(Predicate<DFDGDPRVertex> applicability) {
+        BitSet row = new BitSet(this.representatives.size());
+        for (int i = 0; i < this.representatives.size(); i++) {
+            if (applicability.test(this.representatives.get(i))) {
+                row.set(i);
+            }
+        }
+        return row;
+    }
+}
@@ -2,19 +2,36 @@ package mdpa.gdpr.analysis.dfd;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import mdpa.gdpr.analysis.core.AnalysisMetrics;
+import mdpa.gdpr.analysis.core.AnalysisProgress;
+import mdpa.gdpr.analysis.core.AnalysisSettings;
+import mdpa.gdpr.analysis.core.ContextAttributeStateStatistics;
 import mdpa.gdpr.analysis.core.ContextDependentAttributeSource;
+import mdpa.gdpr.analysis.jfr.FlowGraphResolutionEvent;
 import mdpa.gdpr.analysis.resource.DataFlowDiagramAndDataDictionary;
 import mdpa.gdpr.analysis.resource.GDPRResourceProvider;
 import mdpa.gdpr.metamodel.GDPR.AbstractGDPRElement;
 import mdpa.gdpr.metamodel.GDPR.PersonalData;
 import mdpa.gdpr.metamodel.GDPR.Processing;
 import mdpa.gdpr.metamodel.GDPR.Role;
+import mdpa.gdpr.metamodel.contextproperties.SAFAnnotation;
 import org.apache.log4j.Logger;
-import org.dataflowanalysis.analysis.core.AbstractTransposeFlowGraph;
 import org.dataflowanalysis.analysis.core.FlowGraphCollection;
 import org.dataflowanalysis.analysis.dfd.core.DFDTransposeFlowGraph;
 import org.dataflowanalysis.analysis.dfd.core.DFDTransposeFlowGraphFinder;
@@ -22,6 +39,8 @@ import org.dataflowanalysis.analysis.dfd.core.DFDVertex;
 import org.dataflowanalysis.analysis.resource.ResourceProvider;
 import org.dataflowanalysis.dfd.datadictionary.DataDictionary;
 import org.dataflowanalysis.dfd.datadictionary.Pin;
+import org.dataflowanalysis.dfd.dataflowdiagram.Node;
+import org.eclipse.emf.ecore.EObject;
 
 /**
  * Models a collection of {@link DFDGDPRTransposeFlowGraph}s for use with the
@@ -29,14 +48,24 @@ import org.dataflowanalysis.dfd.datadictionary.Pin;
  */
 public class DFDGDPRFlowGraphCollection extends FlowGraphCollection {
     private final Logger logger = Logger.getLogger(DFDGDPRFlowGraphCollection.class);
-    private DataDictionary dataDictionary;
+    private AnalysisSettings settings;
+    private ContextAttributeStateStatistics stateStatistics;
 
     /**
      * Creates a new {@link DFDGDPRFlowGraphCollection} using the provided resource provider
      * @param resourceProvider {@link ResourceProvider} that provides the necessary models
      */
     public DFDGDPRFlowGraphCollection(ResourceProvider resourceProvider) {
-        super(resourceProvider);
+        this(resourceProvider, new AnalysisSettings());
+    }
+
+    /**
+     * Creates a new {@link DFDGDPRFlowGraphCollection} using the provided resource provider and analysis settings
+     * @param resourceProvider {@link ResourceProvider} that provides the necessary models
+     * @param settings {@link AnalysisSettings} used when resolving and evaluating the flow graphs
+     */
+    public DFDGDPRFlowGraphCollection(ResourceProvider resourceProvider, AnalysisSettings settings) {
+        this(findTransposeFlowGraphs(resourceProvider, settings), resourceProvider, settings, new ContextAttributeStateStatistics());
     }
 
     /**
@@ -46,23 +75,56 @@ public class DFDGDPRFlowGraphCollection extends FlowGraphCollection {
      * @param resourceProvider {@link ResourceProvider} that has the relevant model elements loaded
      */
     public DFDGDPRFlowGraphCollection(List<DFDGDPRTransposeFlowGraph> transposeFlowGraphs, ResourceProvider resourceProvider) {
+        this(transposeFlowGraphs, resourceProvider, new AnalysisSettings(), new ContextAttributeStateStatistics());
+    }
+
+    /**
+     * Creates a new {@link DFDGDPRFlowGraphCollection} with the given list of transpose flow graphs, a given resource
+     * provider, the analysis settings and the statistics of the state enumeration that produced the transpose flow graphs
+     * @param transposeFlowGraphs List of {@link DFDGDPRTransposeFlowGraph}s that are stored in the flow graph collection
+     * @param resourceProvider {@link ResourceProvider} that has the relevant model elements loaded
+     * @param settings {@link AnalysisSettings} used when resolving and evaluating the flow graphs
+     * @param stateStatistics {@link ContextAttributeStateStatistics} of the state enumeration
+     */
+    public DFDGDPRFlowGraphCollection(List<DFDGDPRTransposeFlowGraph> transposeFlowGraphs, ResourceProvider resourceProvider,
+            AnalysisSettings settings, ContextAttributeStateStatistics stateStatistics) {
         super(transposeFlowGraphs, resourceProvider);
+        this.settings = settings;
+        this.stateStatistics = stateStatistics;
+    }
+
+    /**
+     * Finds the complete transpose flow graphs of the models of the given resource provider.
+     * <p/>
+     * The flow graphs are found before the collection is constructed, as the constructor of {@link FlowGraphCollection}
+     * would otherwise call {@link #findTransposeFlowGraphs()} before the settings of the collection are assigned
+     * @param resourceProvider {@link ResourceProvider} that provides the necessary models
+     * @param settings {@link AnalysisSettings} used when finding the flow graphs
+     * @return Returns the complete {@link DFDGDPRTransposeFlowGraph}s of the models
+     */
+    private static List<DFDGDPRTransposeFlowGraph> findTransposeFlowGraphs(ResourceProvider resourceProvider, AnalysisSettings settings) {
+        return new DFDGDPRFlowGraphCollection(List.of(), resourceProvider, settings, new ContextAttributeStateStatistics()).findTransposeFlowGraphs();
     }
 
     @Override
-    public List<? extends AbstractTransposeFlowGraph> findTransposeFlowGraphs() {
+    public List<DFDGDPRTransposeFlowGraph> findTransposeFlowGraphs() {
         if (!(this.resourceProvider instanceof GDPRResourceProvider gdprResourceProvider)) {
             this.logger.error("Resource provider is not a GDPR resource provider!");
             throw new IllegalArgumentException();
         }
+        AnalysisMetrics metrics = this.settings.getMetrics();
+        long transformationStartTime = metrics.startTimer();
         DataFlowDiagramAndDataDictionary dfd = gdprResourceProvider.getTransformationManager()
                 .transform(gdprResourceProvider.getGDPRModel(), gdprResourceProvider.getScopeDependentAssessmentFacts());
-        this.dataDictionary = dfd.dataDictionary();
+        metrics.stopTimer(AnalysisMetrics.Phase.TRANSFORMATION, transformationStartTime);
+        long findingStartTime = metrics.startTimer();
         DFDTransposeFlowGraphFinder finder = new DFDTransposeFlowGraphFinder(dfd.dataDictionary(), dfd.dataFlowDiagram());
+        Map<AbstractGDPRElement, RelatedElements> relatedElements = new IdentityHashMap<>();
         List<DFDGDPRTransposeFlowGraph> completeFlowGraphs = finder.findTransposeFlowGraphs()
                 .stream()
-                .map(it -> this.transformFlowGraph((DFDTransposeFlowGraph) it, dfd.dataDictionary()))
+                .map(it -> this.transformFlowGraph((DFDTransposeFlowGraph) it, dfd.dataDictionary(), relatedElements))
                 .toList();
+        metrics.stopTimer(AnalysisMetrics.Phase.FLOW_GRAPH_FINDING, findingStartTime);
         return new ArrayList<>(completeFlowGraphs);
     }
 
@@ -83,23 +145,29 @@ public class DFDGDPRFlowGraphCollection extends FlowGraphCollection {
                 .map(this::getPartialTransposeFlowGraphs)
                 .flatMap(List::stream)
                 .toList());
-        return new DFDGDPRFlowGraphCollection(flowGraphs, this.resourceProvider);
+        return new DFDGDPRFlowGraphCollection(flowGraphs, this.resourceProvider, this.settings, new ContextAttributeStateStatistics());
     }
 
     /**
-     * Transforms the given DFD-based {@link DFDTransposeFlowGraph} to an {@link DFDGDPRTransposeFlowGraph}
+     * Transforms the given DFD-based {@link DFDTransposeFlowGraph} to an {@link DFDGDPRTransposeFlowGraph}. Each vertex of
+     * the transpose flow graph is converted exactly once
      * @param transposeFlowGraph Given {@link DFDTransposeFlowGraph}
      * @param dataDictionary Data dictionary containing the labels for CDAs
+     * @param relatedElements Cache of the already determined related elements of each {@link AbstractGDPRElement}
      * @return Returns the corresponding {@link DFDGDPRTransposeFlowGraph}
      */
-    private DFDGDPRTransposeFlowGraph transformFlowGraph(DFDTransposeFlowGraph transposeFlowGraph, DataDictionary dataDictionary) {
+    private DFDGDPRTransposeFlowGraph transformFlowGraph(DFDTransposeFlowGraph transposeFlowGraph, DataDictionary dataDictionary,
+            Map<AbstractGDPRElement, RelatedElements> relatedElements) {
         Map<DFDVertex, DFDGDPRVertex> mapping = new IdentityHashMap<>();
         transposeFlowGraph.getVertices()
                 .stream()
                 .map(DFDVertex.class::cast)
-                .forEach(vertex -> mapping.put(vertex, this.getDFDGDPRVertex(vertex, new IdentityHashMap<>())));
+                .forEach(vertex -> this.getDFDGDPRVertex(vertex, mapping, relatedElements));
+        List<ContextDependentAttributeSource> contextDependentAttributes = this.getContextDependentAttributes();
+        ApplicabilityMatrix applicabilityMatrix = new ApplicabilityMatrix(mapping.values(), contextDependentAttributes);
         return new DFDGDPRTransposeFlowGraph(mapping.get((DFDVertex) transposeFlowGraph.getSink()),
-                this.determineContextDependentAttributes(mapping.values()), dataDictionary);
+                this.determineContextDependentAttributes(contextDependentAttributes, applicabilityMatrix), dataDictionary, applicabilityMatrix,
+                this.settings.getMetrics());
     }
 
     /**
@@ -137,7 +205,8 @@ public class DFDGDPRFlowGraphCollection extends FlowGraphCollection {
                     .toList();
             for (DFDGDPRVertex sink : sinks) {
                 result.add(new DFDGDPRTransposeFlowGraph(this.getMappingForSink(sink, roleVertices),
-                        new ArrayList<>(transposeFlowGraph.getContextDependentAttributeSources()), this.dataDictionary));
+                        new ArrayList<>(transposeFlowGraph.getContextDependentAttributeSources()), transposeFlowGraph.getDataDictionary(), null,
+                        this.settings.getMetrics()));
             }
         }
         return result;
@@ -157,17 +226,23 @@ public class DFDGDPRFlowGraphCollection extends FlowGraphCollection {
                 .filter(it -> it.getValue() instanceof DFDGDPRVertex)
                 .filter(it -> roleVertices.contains(it.getValue()))
                 .forEach(it -> pinVertexMap.put(it.getKey(), this.getMappingForSink((DFDGDPRVertex) it.getValue(), roleVertices)));
-        return new DFDGDPRVertex(sink.getReferencedElement(), pinVertexMap, new HashMap<>(sink.getPinFlowMap()),
-                new ArrayList<>(sink.getRelatedElements()));
+        return new DFDGDPRVertex(sink.getReferencedElement(), pinVertexMap, new HashMap<>(sink.getPinFlowMap()), sink.getRelatedElementSet());
     }
 
     /**
-     * Creates the {@link DFDGDPRVertex} for a corresponding {@link DFDVertex} and a given mapping
+     * Creates the {@link DFDGDPRVertex} for a corresponding {@link DFDVertex} and a given mapping. Already converted
+     * vertices are taken from the mapping and each newly converted vertex is added to it
      * @param vertex Given {@link DFDVertex}
-     * @param mapping Mapping between {@link DFDVertex}
+     * @param mapping Mapping between {@link DFDVertex} and their already converted {@link DFDGDPRVertex}
+     * @param relatedElements Cache of the already determined related elements of each {@link AbstractGDPRElement}
      * @return Returns the corresponding {@link DFDGDPRVertex} of the {@link DFDVertex}
      */
-    private DFDGDPRVertex getDFDGDPRVertex(DFDVertex vertex, Map<DFDVertex, DFDVertex> mapping) {
+    private DFDGDPRVertex getDFDGDPRVertex(DFDVertex vertex, Map<DFDVertex, DFDGDPRVertex> mapping,
+            Map<AbstractGDPRElement, RelatedElements> relatedElements) {
+        DFDGDPRVertex convertedVertex = mapping.get(vertex);
+        if (convertedVertex != null) {
+            return convertedVertex;
+        }
         if (!(this.resourceProvider instanceof GDPRResourceProvider gdprResourceProvider)) {
             this.logger.error("Resource provider is not a GDPR resource provider!");
             throw new IllegalArgumentException();
@@ -177,13 +252,13 @@ public class DFDGDPRFlowGraphCollection extends FlowGraphCollection {
                 .orElseThrow();
         Map<Pin, DFDVertex> copiedPinDFDVertexMap = new HashMap<>();
         vertex.getPinDFDVertexMap()
-                .keySet()
-                .forEach(key -> copiedPinDFDVertexMap.put(key, mapping.getOrDefault(vertex.getPinDFDVertexMap()
-                        .get(key),
-                        this.getDFDGDPRVertex(vertex.getPinDFDVertexMap()
-                                .get(key), mapping))));
-        List<AbstractGDPRElement> relatedElements = this.determineRelatedElements(gdprElement);
-        return new DFDGDPRVertex(vertex.getReferencedElement(), copiedPinDFDVertexMap, new HashMap<>(vertex.getPinFlowMap()), relatedElements);
+                .forEach((key, predecessor) -> copiedPinDFDVertexMap.put(key, this.getDFDGDPRVertex(predecessor, mapping, relatedElements)));
+        RelatedElements vertexRelatedElements = relatedElements.computeIfAbsent(gdprElement,
+                it -> new RelatedElements(this.determineRelatedElements(it)));
+        convertedVertex = new DFDGDPRVertex(vertex.getReferencedElement(), copiedPinDFDVertexMap, new HashMap<>(vertex.getPinFlowMap()),
+                vertexRelatedElements);
+        mapping.put(vertex, convertedVertex);
+        return convertedVertex;
     }
 
     /**
@@ -219,37 +294,635 @@ public class DFDGDPRFlowGraphCollection extends FlowGraphCollection {
     }
 
     /**
-     * Determines the context dependent attribute sources for the given collection of vertices using the
+     * Returns all context dependent attribute sources of the model determined by the
      * {@link mdpa.gdpr.analysis.core.TransformationManager}
-     * @param vertices List of vertices of which the {@link ContextDependentAttributeSource}s should be determined
-     * @return List of {@link ContextDependentAttributeSource} that are applicable to the given list of vertices
+     * @return List of all {@link ContextDependentAttributeSource}s of the model
      */
-    private List<ContextDependentAttributeSource> determineContextDependentAttributes(Collection<DFDGDPRVertex> vertices) {
+    private List<ContextDependentAttributeSource> getContextDependentAttributes() {
         if (!(this.resourceProvider instanceof GDPRResourceProvider gdprResourceProvider)) {
             this.logger.error("Resource provider is not a GDPR resource provider!");
             throw new IllegalArgumentException();
         }
         return gdprResourceProvider.getTransformationManager()
-                .getContextDependentAttributes()
-                .stream()
-                .filter(it -> it.applicable(vertices))
+                .getContextDependentAttributes();
+    }
+
+    /**
+     * Determines the context dependent attribute sources that are applicable to the vertices of the given applicability
+     * matrix
+     * @param sources {@link ContextDependentAttributeSource}s of the model, whose rows are stored in the matrix
+     * @param applicabilityMatrix {@link ApplicabilityMatrix} of the vertices of which the
+     * {@link ContextDependentAttributeSource}s should be determined
+     * @return List of {@link ContextDependentAttributeSource} that are applicable to the vertices of the matrix
+     */
+    private List<ContextDependentAttributeSource> determineContextDependentAttributes(List<ContextDependentAttributeSource> sources,
+            ApplicabilityMatrix applicabilityMatrix) {
+        return sources.stream()
+                .filter(applicabilityMatrix::isApplicableToAny)
                 .toList();
     }
 
     /**
      * Returns the flow graph collection that contains the final flow graph with resolved context dependent attributes.
      * <p/>
+     * If the {@link AnalysisSettings} of the collection allow for parallelism, the transpose flow graphs and their states
+     * are resolved on a fork-join pool. The order of the resulting transpose flow graphs is identical to the sequential
+     * resolution.
+     * <p/>
+     * If the settings enable deduplication, structurally identical alternate flow graphs are collapsed into one flow graph
+     * that carries all of their states. See {@link DFDGDPRTransposeFlowGraph#getContextAttributeStates()}
+     * <p/>
+     * If the analysis is cancelled or a budget of the settings is exhausted, the collection only contains the alternate
+     * flow graphs of the states resolved until then. See {@link ContextAttributeStateStatistics#isComplete()}
+     * <p/>
      * Note: This will create a new instance of the {@link DFDGDPRFlowGraphCollection}
      * @return Returns a new {@link DFDGDPRFlowGraphCollection} containing the resolved {@link DFDGDPRTransposeFlowGraph}s
      */
     public DFDGDPRFlowGraphCollection resolveContextDependentAttributes() {
-        List<DFDGDPRTransposeFlowGraph> resultingTransposeFlowGraphs = this.getTransposeFlowGraphs()
+        ContextAttributeStateStatistics statistics = new ContextAttributeStateStatistics();
+        List<DFDGDPRTransposeFlowGraph> transposeFlowGraphs = this.getTransposeFlowGraphs()
+                .stream()
+                .filter(DFDGDPRTransposeFlowGraph.class::isInstance)
+                .map(DFDGDPRTransposeFlowGraph.class::cast)
+                .toList();
+        AnalysisProgress progress = this.createProgress(transposeFlowGraphs, statistics);
+        List<DFDGDPRTransposeFlowGraph> resultingTransposeFlowGraphs;
+        if (this.settings.isParallel()) {
+            resultingTransposeFlowGraphs = this.runParallel(() -> transposeFlowGraphs.parallelStream()
+                    .map(it -> this.resolve(it, statistics, true, progress))
+                    .flatMap(Collection::stream)
+                    .toList());
+        } else {
+            resultingTransposeFlowGraphs = transposeFlowGraphs.stream()
+                    .map(it -> this.resolve(it, statistics, false, progress))
+                    .flatMap(Collection::stream)
+                    .toList();
+        }
+        if (this.settings.isDeduplicateFlowGraphs()) {
+            resultingTransposeFlowGraphs = this.deduplicate(resultingTransposeFlowGraphs, statistics);
+        }
+        this.recordStateStatistics(statistics);
+        logger.info(statistics.toString());
+        return new DFDGDPRFlowGraphCollection(resultingTransposeFlowGraphs, this.resourceProvider, this.settings, statistics);
+    }
+
+    /**
+     * Resolves the context dependent attributes of the given transpose flow graph and collects the alternate flow graphs
+     * @param transposeFlowGraph Transpose flow graph that should be resolved
+     * @param statistics {@link ContextAttributeStateStatistics} that record the amount of explored and pruned states
+     * @param parallel Whether the states should be resolved in parallel
+     * @param progress {@link AnalysisProgress} of the resolution
+     * @return Returns the alternate flow graphs of the transpose flow graph
+     */
+    private List<DFDGDPRTransposeFlowGraph> resolve(DFDGDPRTransposeFlowGraph transposeFlowGraph, ContextAttributeStateStatistics statistics,
+            boolean parallel, AnalysisProgress progress) {
+        FlowGraphResolutionEvent event = new FlowGraphResolutionEvent();
+        event.begin();
+        List<DFDGDPRTransposeFlowGraph> alternateFlowGraphs = transposeFlowGraph
+                .streamAlternateFlowGraphs(statistics, parallel, this.settings.getExplorationQueueCapacity(), progress)
+                .toList();
+        event.commit(transposeFlowGraph, alternateFlowGraphs.size());
+        return alternateFlowGraphs;
+    }
+
+    /**
+     * Collapses structurally identical alternate flow graphs into the first of them. The remaining flow graph additionally
+     * carries the states of the removed duplicates
+     * @param transposeFlowGraphs Alternate flow graphs that should be deduplicated
+     * @param statistics {@link ContextAttributeStateStatistics} that record the amount of duplicates
+     * @return Returns the list of distinct alternate flow graphs in the order of their first occurrence
+     * @see DFDGDPRTransposeFlowGraph#getSignature()
+     */
+    private List<DFDGDPRTransposeFlowGraph> deduplicate(List<DFDGDPRTransposeFlowGraph> transposeFlowGraphs,
+            ContextAttributeStateStatistics statistics) {
+        Map<FlowGraphSignature, List<DFDGDPRTransposeFlowGraph>> flowGraphsBySignature = new LinkedHashMap<>();
+        for (DFDGDPRTransposeFlowGraph transposeFlowGraph : transposeFlowGraphs) {
+            flowGraphsBySignature.computeIfAbsent(transposeFlowGraph.getSignature(), it -> new ArrayList<>())
+                    .add(transposeFlowGraph);
+        }
+        List<DFDGDPRTransposeFlowGraph> result = new ArrayList<>();
+        for (List<DFDGDPRTransposeFlowGraph> duplicates : flowGraphsBySignature.values()) {
+            DFDGDPRTransposeFlowGraph transposeFlowGraph = duplicates.get(0);
+            if (duplicates.size() > 1) {
+                statistics.recordDuplicates(duplicates.size() - 1);
+                transposeFlowGraph = transposeFlowGraph.withEquivalentStates(duplicates.subList(1, duplicates.size())
+                        .stream()
+                        .map(DFDGDPRTransposeFlowGraph::getContextAttributeStates)
+                        .flatMap(List::stream)
+                        .toList());
+            }
+            result.add(transposeFlowGraph);
+        }
+        return result;
+    }
+
+    /**
+     * Resolves the context dependent attributes of all stored transpose flow graphs, evaluates each resulting alternate
+     * flow graph and passes it to the given consumer.
+     * <p/>
+     * In contrast to {@link #resolveContextDependentAttributes()} and {@link #evaluate()}, the alternate flow graphs are
+     * not collected. Each alternate flow graph is created, evaluated and passed to the consumer one at a time. Afterward,
+     * it is only retained if the consumer keeps a reference to it. Therefore, the peak memory usage is bounded by the
+     * amount of flow graphs in flight instead of the total amount of states.
+     * <p/>
+     * If the {@link AnalysisSettings} of the collection allow for parallelism, the states of each transpose flow graph are
+     * resolved and evaluated on a fork-join pool. In this case, the consumer is called concurrently and in no particular
+     * order. The {@link DataDictionary}s and the referenced {@link Node}s are shared between the flow graphs and must only
+     * be read by the consumer.
+     * <p/>
+     * As streamed flow graphs may already be consumed, they are not deduplicated, even if the settings enable
+     * deduplication. Instead, the consumer is called with the alternate flow graph of every state.
+     * <p/>
+     * If the analysis is cancelled or a budget of the settings is exhausted, no further states are resolved and the
+     * returned statistics are marked as incomplete. See {@link ContextAttributeStateStatistics#isComplete()}
+     * @param consumer Consumer that is called with each evaluated {@link DFDGDPRTransposeFlowGraph}
+     * @return Returns the {@link ContextAttributeStateStatistics} of the state enumeration
+     */
+    public ContextAttributeStateStatistics resolveAndEvaluate(Consumer<? super DFDGDPRTransposeFlowGraph> consumer) {
+        ContextAttributeStateStatistics statistics = new ContextAttributeStateStatistics();
+        List<DFDGDPRTransposeFlowGraph> transposeFlowGraphs = this.getTransposeFlowGraphs()
+                .stream()
+                .filter(DFDGDPRTransposeFlowGraph.class::isInstance)
+                .map(DFDGDPRTransposeFlowGraph.class::cast)
+                .toList();
+        AnalysisProgress progress = this.createProgress(transposeFlowGraphs, statistics);
+        if (this.settings.isParallel()) {
+            SharedModelGuard guard = this.guardSharedElements(transposeFlowGraphs);
+            try {
+                this.runParallel(() -> {
+                    transposeFlowGraphs
+                            .forEach(transposeFlowGraph -> this.resolveAndEvaluate(transposeFlowGraph, statistics, true, progress, consumer));
+                    return null;
+                });
+            } finally {
+                guard.detach();
+            }
+        } else {
+            transposeFlowGraphs.forEach(transposeFlowGraph -> this.resolveAndEvaluate(transposeFlowGraph, statistics, false, progress, consumer));
+        }
+        this.recordStateStatistics(statistics);
+        logger.info(statistics.toString());
+        return statistics;
+    }
+
+    /**
+     * Resolves the context dependent attributes of the given transpose flow graph and passes each evaluated alternate flow
+     * graph to the given consumer
+     * @param transposeFlowGraph Transpose flow graph that should be resolved
+     * @param statistics {@link ContextAttributeStateStatistics} that record the amount of explored and pruned states
+     * @param parallel Whether the states should be resolved in parallel
+     * @param progress {@link AnalysisProgress} of the resolution
+     * @param consumer Consumer that is called with each evaluated {@link DFDGDPRTransposeFlowGraph}
+     */
+    private void resolveAndEvaluate(DFDGDPRTransposeFlowGraph transposeFlowGraph, ContextAttributeStateStatistics statistics, boolean parallel,
+            AnalysisProgress progress, Consumer<? super DFDGDPRTransposeFlowGraph> consumer) {
+        FlowGraphResolutionEvent event = new FlowGraphResolutionEvent();
+        event.begin();
+        AtomicInteger alternateFlowGraphCount = new AtomicInteger();
+        transposeFlowGraph.streamAlternateFlowGraphs(statistics, parallel, this.settings.getExplorationQueueCapacity(), progress)
+                .map(it -> this.evaluate(it, progress))
+                .peek(it -> alternateFlowGraphCount.incrementAndGet())
+                .forEach(consumer);
+        event.commit(transposeFlowGraph, alternateFlowGraphCount.get());
+    }
+
+    /**
+     * Resolves the context dependent attributes of the given transpose flow graph and evaluates the alternate flow graphs.
+     * If the {@link AnalysisSettings} enable deduplication, structurally identical alternate flow graphs are collapsed
+     * before the evaluation. See {@link #deduplicate(List, ContextAttributeStateStatistics)}
+     * @param transposeFlowGraph Transpose flow graph that should be resolved
+     * @param statistics {@link ContextAttributeStateStatistics} that record the amount of explored and pruned states
+     * @param parallel Whether the states should be resolved and evaluated in parallel
+     * @param progress {@link AnalysisProgress} of the resolution
+     * @return Returns the evaluated alternate flow graphs in the order of their states
+     */
+    private List<DFDGDPRTransposeFlowGraph> resolveAndEvaluate(DFDGDPRTransposeFlowGraph transposeFlowGraph,
+            ContextAttributeStateStatistics statistics, boolean parallel, AnalysisProgress progress) {
+        List<DFDGDPRTransposeFlowGraph> alternateFlowGraphs = this.resolve(transposeFlowGraph, statistics, parallel, progress);
+        if (this.settings.isDeduplicateFlowGraphs()) {
+            alternateFlowGraphs = this.deduplicate(alternateFlowGraphs, statistics);
+        }
+        Stream<DFDGDPRTransposeFlowGraph> stream = parallel ? alternateFlowGraphs.parallelStream() : alternateFlowGraphs.stream();
+        return stream.map(it -> this.evaluate(it, progress))
+                .toList();
+    }
+
+    /**
+     * Resolves all states of each stored transpose flow graph and evaluates them in one pass, annotating the evaluated
+     * vertices with the states in which they exist. Vertices that are not affected by the scenarios of a state are shared
+     * between the states and only evaluated once. See {@link MultiStateEvaluation}.
+     * <p/>
+     * If the {@link AnalysisSettings} of the collection allow for parallelism, the transpose flow graphs are evaluated
+     * concurrently, while the states of each transpose flow graph are evaluated sequentially. If the analysis is cancelled or
+     * a budget of the settings is exhausted, the evaluations only contain the states resolved until then
+     * @return Returns a {@link MultiStateEvaluation} for each stored transpose flow graph
+     */
+    public List<MultiStateEvaluation> evaluateStates() {
+        ContextAttributeStateStatistics statistics = new ContextAttributeStateStatistics();
+        List<DFDGDPRTransposeFlowGraph> transposeFlowGraphs = this.getTransposeFlowGraphs()
                 .stream()
                 .filter(DFDGDPRTransposeFlowGraph.class::isInstance)
                 .map(DFDGDPRTransposeFlowGraph.class::cast)
-                .map(DFDGDPRTransposeFlowGraph::determineAlternateFlowGraphs)
+                .toList();
+        AnalysisProgress progress = this.createProgress(transposeFlowGraphs, statistics);
+        int explorationQueueCapacity = this.settings.getExplorationQueueCapacity();
+        List<MultiStateEvaluation> evaluations;
+        if (this.settings.isParallel()) {
+            SharedModelGuard guard = this.guardSharedElements(transposeFlowGraphs);
+            try {
+                evaluations = this.runParallel(() -> transposeFlowGraphs.parallelStream()
+                        .map(it -> it.evaluateStates(statistics, explorationQueueCapacity, progress))
+                        .toList());
+            } finally {
+                guard.detach();
+            }
+        } else {
+            evaluations = transposeFlowGraphs.stream()
+                    .map(it -> it.evaluateStates(statistics, explorationQueueCapacity, progress))
+                    .toList();
+        }
+        this.recordStateStatistics(statistics);
+        logger.info(statistics.toString());
+        return evaluations;
+    }
+
+    /**
+     * Resolves and evaluates the alternate flow graphs of all stored transpose flow graphs one at a time and applies the
+     * given search function to each of them. The enumeration of states stops as soon as the search function found the
+     * given amount of results.
+     * <p/>
+     * If the {@link AnalysisSettings} of the collection allow for parallelism, the states of each transpose flow graph are
+     * searched on a fork-join pool. In this case, the search function is called concurrently and the returned results are
+     * not necessarily the first ones in the order of the states. Otherwise, the results are returned in the order of the
+     * states. The search function is applied to the alternate flow graph of every state, even if the settings enable
+     * deduplication.
+     * <p/>
+     * If the analysis is cancelled or a budget of the settings is exhausted, the results found until then are returned
+     * @param search Function returning a result for an evaluated {@link DFDGDPRTransposeFlowGraph}, if it matches the
+     * search
+     * @param limit Maximum amount of results that should be found
+     * @param <T> Type of the results of the search
+     * @return Returns a list of at most limit results
+     */
+    public <T> List<T> searchAlternateFlowGraphs(Function<? super DFDGDPRTransposeFlowGraph, Optional<T>> search, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit of the search must be at least one");
+        }
+        ContextAttributeStateStatistics statistics = new ContextAttributeStateStatistics();
+        List<DFDGDPRTransposeFlowGraph> transposeFlowGraphs = this.getTransposeFlowGraphs()
+                .stream()
+                .filter(DFDGDPRTransposeFlowGraph.class::isInstance)
+                .map(DFDGDPRTransposeFlowGraph.class::cast)
+                .toList();
+        AnalysisProgress progress = this.createProgress(transposeFlowGraphs, statistics);
+        List<T> results;
+        if (this.settings.isParallel()) {
+            Queue<T> foundResults = new ConcurrentLinkedQueue<>();
+            AtomicInteger foundCount = new AtomicInteger();
+            SharedModelGuard guard = this.guardSharedElements(transposeFlowGraphs);
+            try {
+                this.runParallel(() -> {
+                    for (DFDGDPRTransposeFlowGraph transposeFlowGraph : transposeFlowGraphs) {
+                        boolean limitReached = transposeFlowGraph
+                                .streamAlternateFlowGraphs(statistics, true, this.settings.getExplorationQueueCapacity(), progress)
+                                .map(it -> search.apply(this.evaluate(it, progress)))
+                                .flatMap(Optional::stream)
+                                .anyMatch(result -> {
+                                    int index = foundCount.getAndIncrement();
+                                    if (index < limit) {
+                                        foundResults.add(result);
+                                    }
+                                    return index + 1 >= limit;
+                                });
+                        if (limitReached) {
+                            break;
+                        }
+                    }
+                    return null;
+                });
+            } finally {
+                guard.detach();
+            }
+            results = List.copyOf(foundResults);
+        } else {
+            results = transposeFlowGraphs.stream()
+                    .flatMap(it -> it.streamAlternateFlowGraphs(statistics, false, this.settings.getExplorationQueueCapacity(), progress))
+                    .map(it -> search.apply(this.evaluate(it, progress)))
+                    .flatMap(Optional::stream)
+                    .limit(limit)
+                    .toList();
+        }
+        this.recordStateStatistics(statistics);
+        logger.info(statistics.toString());
+        return results;
+    }
+
+    /**
+     * Resolves the context dependent attributes of all stored transpose flow graphs and evaluates the resulting alternate
+     * flow graphs. The evaluated alternate flow graphs are stored in an {@link AnalysisSnapshot} that can be updated
+     * incrementally after the models changed.
+     * <p/>
+     * The stored transpose flow graphs must be the complete transpose flow graphs returned by
+     * {@link #findTransposeFlowGraphs()}
+     * @return Returns the {@link AnalysisSnapshot} containing the evaluated alternate flow graphs
+     * @see #createSnapshot(AnalysisSnapshot, Collection)
+     */
+    public AnalysisSnapshot createSnapshot() {
+        return this.createSnapshot(Optional.empty(), Set.of());
+    }
+
+    /**
+     * Resolves and evaluates the stored transpose flow graphs that are affected by the given changed model elements and
+     * takes the evaluated alternate flow graphs of all other transpose flow graphs from the given previous snapshot.
+     * <p/>
+     * A transpose flow graph is affected, if it was not contained in the previous snapshot or if one of the following
+     * elements is changed:
+     * - An element that is related to one of its vertices
+     * - The {@link mdpa.gdpr.metamodel.contextproperties.SAFAnnotation} or assessment fact of one of its context dependent
+     * attribute sources
+     * - An annotation that annotates an element related to one of its vertices
+     * <p/>
+     * Changed elements are additionally attributed to all of their containers. The stored transpose flow graphs must be
+     * the complete transpose flow graphs returned by {@link #findTransposeFlowGraphs()} after the change. If the previous
+     * snapshot is incomplete, because its analysis was stopped, all transpose flow graphs are resolved and evaluated again
+     * @param previousSnapshot Snapshot of the analysis before the change
+     * @param changedElements Elements of the GDPR and context property model that were changed, added or removed since the
+     * previous snapshot. See {@link mdpa.gdpr.analysis.core.ModelChangeRecorder}
+     * @return Returns a new {@link AnalysisSnapshot} containing the evaluated alternate flow graphs
+     */
+    public AnalysisSnapshot createSnapshot(AnalysisSnapshot previousSnapshot, Collection<? extends EObject> changedElements) {
+        return this.createSnapshot(Optional.of(previousSnapshot), changedElements);
+    }
+
+    /**
+     * Creates a snapshot of the evaluated alternate flow graphs, reusing the unaffected flow graphs of the optional
+     * previous snapshot
+     * @param previousSnapshot Optional snapshot of the analysis before the change
+     * @param changedElements Elements that were changed since the previous snapshot
+     * @return Returns a new {@link AnalysisSnapshot} containing the evaluated alternate flow graphs
+     */
+    private AnalysisSnapshot createSnapshot(Optional<AnalysisSnapshot> previousSnapshot, Collection<? extends EObject> changedElements) {
+        if (!(this.resourceProvider instanceof GDPRResourceProvider gdprResourceProvider)) {
+            this.logger.error("Resource provider is not a GDPR resource provider!");
+            throw new IllegalArgumentException();
+        }
+        Set<EObject> affectedElements = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (EObject changedElement : changedElements) {
+            for (EObject element = changedElement; element != null; element = element.eContainer()) {
+                affectedElements.add(element);
+            }
+        }
+        List<SAFAnnotation> affectedAnnotations = affectedElements.stream()
+                .filter(SAFAnnotation.class::isInstance)
+                .map(SAFAnnotation.class::cast)
+                .toList();
+
+        Optional<AnalysisSnapshot> reusableSnapshot = previousSnapshot.filter(AnalysisSnapshot::isComplete);
+        if (previousSnapshot.isPresent() && reusableSnapshot.isEmpty()) {
+            logger.info("Previous snapshot is incomplete, reanalyzing all transpose flow graphs");
+        }
+        Map<FlowGraphKey, List<DFDGDPRTransposeFlowGraph>> alternateFlowGraphs = new LinkedHashMap<>();
+        Map<FlowGraphKey, List<DFDGDPRTransposeFlowGraph>> reanalyzedFlowGraphs = new LinkedHashMap<>();
+        int reusedFlowGraphCount = 0;
+        for (DFDGDPRTransposeFlowGraph transposeFlowGraph : this.getTransposeFlowGraphs()
+                .stream()
+                .filter(DFDGDPRTransposeFlowGraph.class::isInstance)
+                .map(DFDGDPRTransposeFlowGraph.class::cast)
+                .toList()) {
+            FlowGraphKey key = FlowGraphKey.of(transposeFlowGraph, gdprResourceProvider.getTransformationManager());
+            Optional<List<DFDGDPRTransposeFlowGraph>> previousFlowGraphs = reusableSnapshot.flatMap(it -> it.getAlternateFlowGraphs(key));
+            if (previousFlowGraphs.isPresent() && !this.isAffected(transposeFlowGraph, affectedElements, affectedAnnotations)
+                    && !alternateFlowGraphs.containsKey(key)) {
+                alternateFlowGraphs.put(key, previousFlowGraphs.get());
+                reusedFlowGraphCount++;
+            } else {
+                alternateFlowGraphs.putIfAbsent(key, new ArrayList<>());
+                reanalyzedFlowGraphs.computeIfAbsent(key, it -> new ArrayList<>())
+                        .add(transposeFlowGraph);
+            }
+        }
+
+        ContextAttributeStateStatistics statistics = new ContextAttributeStateStatistics();
+        List<DFDGDPRTransposeFlowGraph> transposeFlowGraphs = reanalyzedFlowGraphs.values()
+                .stream()
                 .flatMap(Collection::stream)
                 .toList();
-        return new DFDGDPRFlowGraphCollection(resultingTransposeFlowGraphs, this.resourceProvider);
+        AnalysisProgress progress = this.createProgress(transposeFlowGraphs, statistics);
+        boolean parallel = this.settings.isParallel();
+        Runnable reanalysis = () -> reanalyzedFlowGraphs.forEach((key, flowGraphs) -> flowGraphs.forEach(transposeFlowGraph -> alternateFlowGraphs
+                .get(key)
+                .addAll(this.resolveAndEvaluate(transposeFlowGraph, statistics, parallel, progress))));
+        if (parallel) {
+            SharedModelGuard guard = this.guardSharedElements(transposeFlowGraphs);
+            try {
+                this.runParallel(() -> {
+                    reanalysis.run();
+                    return null;
+                });
+            } finally {
+                guard.detach();
+            }
+        } else {
+            reanalysis.run();
+        }
+        this.recordStateStatistics(statistics);
+        logger.info("Reused " + reusedFlowGraphCount + " and reanalyzed " + transposeFlowGraphs.size() + " transpose flow graphs");
+        logger.info(statistics.toString());
+        return new AnalysisSnapshot(alternateFlowGraphs, this.resourceProvider, this.settings, statistics, reusedFlowGraphCount,
+                transposeFlowGraphs.size());
+    }
+
+    /**
+     * Creates the progress of resolving the given transpose flow graphs using the listener, cancellation token and budgets
+     * of the {@link AnalysisSettings}. The total amount of states saturates at {@link Long#MAX_VALUE}
+     * @param transposeFlowGraphs Transpose flow graphs that are resolved
+     * @param statistics {@link ContextAttributeStateStatistics} of the resolution
+     * @return Returns the new {@link AnalysisProgress}
+     */
+    private AnalysisProgress createProgress(List<DFDGDPRTransposeFlowGraph> transposeFlowGraphs, ContextAttributeStateStatistics statistics) {
+        if (!AnalysisProgress.isTracked(this.settings)) {
+            return AnalysisProgress.untracked();
+        }
+        long totalStates = 0;
+        for (DFDGDPRTransposeFlowGraph transposeFlowGraph : transposeFlowGraphs) {
+            totalStates += transposeFlowGraph.getStateSpaceSize();
+            if (totalStates < 0) {
+                totalStates = Long.MAX_VALUE;
+                break;
+            }
+        }
+        return new AnalysisProgress(this.settings, totalStates, statistics);
+    }
+
+    /**
+     * Evaluates the given alternate flow graph and reports it to the given progress
+     * @param transposeFlowGraph Alternate flow graph that should be evaluated
+     * @param progress {@link AnalysisProgress} of the analysis
+     * @return Returns the evaluated {@link DFDGDPRTransposeFlowGraph}
+     */
+    private DFDGDPRTransposeFlowGraph evaluate(DFDGDPRTransposeFlowGraph transposeFlowGraph, AnalysisProgress progress) {
+        DFDGDPRTransposeFlowGraph evaluatedTransposeFlowGraph = (DFDGDPRTransposeFlowGraph) transposeFlowGraph.evaluate();
+        progress.flowGraphEvaluated();
+        return evaluatedTransposeFlowGraph;
+    }
+
+    /**
+     * Records the amount of explored and pruned states of the given statistics in the {@link AnalysisMetrics} of the
+     * {@link AnalysisSettings}
+     * @param statistics {@link ContextAttributeStateStatistics} of a finished state enumeration
+     */
+    private void recordStateStatistics(ContextAttributeStateStatistics statistics) {
+        AnalysisMetrics metrics = this.settings.getMetrics();
+        metrics.add(AnalysisMetrics.Phase.RESOLUTION, AnalysisMetrics.Counter.STATES_ENUMERATED, statistics.getExploredStates());
+        metrics.add(AnalysisMetrics.Phase.RESOLUTION, AnalysisMetrics.Counter.STATES_SKIPPED, statistics.getPrunedStates());
+    }
+
+    /**
+     * Determines whether the given complete transpose flow graph is affected by the given changed elements
+     * @param transposeFlowGraph Complete transpose flow graph that is checked
+     * @param affectedElements Changed elements and their containers
+     * @param affectedAnnotations Changed {@link SAFAnnotation}s contained in the affected elements
+     * @return Returns true, if the transpose flow graph needs to be resolved and evaluated again. Otherwise, the method
+     * returns false
+     */
+    private boolean isAffected(DFDGDPRTransposeFlowGraph transposeFlowGraph, Set<EObject> affectedElements, List<SAFAnnotation> affectedAnnotations) {
+        if (affectedElements.isEmpty()) {
+            return false;
+        }
+        boolean affectedSource = transposeFlowGraph.getContextDependentAttributeSources()
+                .stream()
+                .anyMatch(it -> affectedElements.contains(it.getAnnotation()) || affectedElements.contains(it.getScopeDependentAssessmentFact()));
+        if (affectedSource) {
+            return true;
+        }
+        return transposeFlowGraph.getVertices()
+                .stream()
+                .filter(DFDGDPRVertex.class::isInstance)
+                .map(DFDGDPRVertex.class::cast)
+                .anyMatch(vertex -> vertex.getRelatedElements()
+                        .stream()
+                        .anyMatch(affectedElements::contains)
+                        || affectedAnnotations.stream()
+                                .anyMatch(annotation -> vertex.hasRelatedElement(annotation.getAnnotatedElement())));
+    }
+
+    /**
+     * Evaluates the data flow of all stored transpose flow graphs concurrently using the parallelism configured in the
+     * {@link AnalysisSettings}. If the settings do not allow for parallelism, all available processors are used.
+     * <p/>
+     * Note: This will create a new instance of the {@link DFDGDPRFlowGraphCollection}
+     * @return Returns a new {@link DFDGDPRFlowGraphCollection} containing the evaluated {@link DFDGDPRTransposeFlowGraph}s
+     * @see #evaluateParallel(int)
+     */
+    public DFDGDPRFlowGraphCollection evaluateParallel() {
+        int parallelism = this.settings.isParallel() ? this.settings.getParallelism()
+                : Runtime.getRuntime()
+                        .availableProcessors();
+        return this.evaluateParallel(parallelism);
+    }
+
+    /**
+     * Evaluates the data flow of all stored transpose flow graphs concurrently with the given parallelism. The order of the
+     * resulting transpose flow graphs is identical to {@link #evaluate()}.
+     * <p/>
+     * Each transpose flow graph propagates its labels on its own copy of the vertices. The {@link DataDictionary}s and the
+     * referenced {@link Node}s are shared between all transpose flow graphs and must only be read. This is enforced during
+     * the evaluation: Any modification of a shared element results in an {@link IllegalStateException}.
+     * <p/>
+     * If the analysis is cancelled or the time budget of the settings is exhausted, the remaining transpose flow graphs are
+     * not evaluated and the statistics of the collection are marked as incomplete. The time budget is measured from the
+     * start of the evaluation, and a resolution that was stopped before does not prevent evaluating its partial result.
+     * <p/>
+     * Note: This will create a new instance of the {@link DFDGDPRFlowGraphCollection}
+     * @param parallelism Amount of threads used to evaluate the transpose flow graphs
+     * @return Returns a new {@link DFDGDPRFlowGraphCollection} containing the evaluated {@link DFDGDPRTransposeFlowGraph}s
+     */
+    public DFDGDPRFlowGraphCollection evaluateParallel(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism of the evaluation must be at least one");
+        }
+        List<DFDGDPRTransposeFlowGraph> transposeFlowGraphs = this.getTransposeFlowGraphs()
+                .stream()
+                .filter(DFDGDPRTransposeFlowGraph.class::isInstance)
+                .map(DFDGDPRTransposeFlowGraph.class::cast)
+                .toList();
+        ContextAttributeStateStatistics evaluationStatistics = new ContextAttributeStateStatistics();
+        AnalysisProgress progress = new AnalysisProgress(this.settings, this.stateStatistics.getTotalStates(), evaluationStatistics);
+        SharedModelGuard guard = this.guardSharedElements(transposeFlowGraphs);
+        try {
+            List<DFDGDPRTransposeFlowGraph> evaluatedTransposeFlowGraphs = this.runParallel(parallelism, () -> transposeFlowGraphs.parallelStream()
+                    .filter(it -> progress.shouldContinue())
+                    .map(it -> this.evaluate(it, progress))
+                    .toList());
+            evaluationStatistics.getStopReason()
+                    .ifPresent(this.stateStatistics::recordStop);
+            return new DFDGDPRFlowGraphCollection(evaluatedTransposeFlowGraphs, this.resourceProvider, this.settings, this.stateStatistics);
+        } finally {
+            guard.detach();
+        }
+    }
+
+    /**
+     * Attaches a {@link SharedModelGuard} to the data dictionaries and referenced nodes of the given transpose flow graphs
+     * @param transposeFlowGraphs Transpose flow graphs of which the shared elements should be guarded
+     * @return Returns the attached guard, which must be detached after the concurrent evaluation
+     */
+    private SharedModelGuard guardSharedElements(List<DFDGDPRTransposeFlowGraph> transposeFlowGraphs) {
+        SharedModelGuard guard = new SharedModelGuard();
+        transposeFlowGraphs.forEach(transposeFlowGraph -> {
+            guard.attach(transposeFlowGraph.getDataDictionary());
+            transposeFlowGraph.getVertices()
+                    .stream()
+                    .filter(DFDVertex.class::isInstance)
+                    .map(DFDVertex.class::cast)
+                    .forEach(vertex -> guard.attach(vertex.getReferencedElement()));
+        });
+        return guard;
+    }
+
+    /**
+     * Runs the given task on a fork-join pool with the parallelism configured in the {@link AnalysisSettings}. Parallel
+     * streams created by the task are executed on the same pool
+     * @param task Task that should be executed
+     * @param <T> Result type of the task
+     * @return Returns the result of the task
+     */
+    private <T> T runParallel(Callable<T> task) {
+        return this.runParallel(this.settings.getParallelism(), task);
+    }
+
+    /**
+     * Runs the given task on a fork-join pool with the given parallelism. Parallel streams created by the task are executed
+     * on the same pool
+     * @param parallelism Parallelism of the fork-join pool
+     * @param task Task that should be executed
+     * @param <T> Result type of the task
+     * @return Returns the result of the task
+     */
+    private <T> T runParallel(int parallelism, Callable<T> task) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.submit(task)
+                    .join();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Returns the {@link AnalysisSettings} that are used when resolving and evaluating the flow graphs
+     * @return Returns the settings of the collection
+     */
+    public AnalysisSettings getSettings() {
+        return this.settings;
+    }
+
+    /**
+     * Returns the statistics of the state enumeration that produced the stored transpose flow graphs. If the collection
+     * was not created by {@link #resolveContextDependentAttributes()}, all counters are zero
+     * @return Returns the {@link ContextAttributeStateStatistics} of the collection
+     */
+    public ContextAttributeStateStatistics getStateStatistics() {
+        return this.stateStatistics;
     }
 }
@@ -1,6 +1,7 @@
 package mdpa.gdpr.analysis.dfd;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
@@ -8,12 +9,20 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import mdpa.gdpr.analysis.utils.DFDUtils;
 import mdpa.gdpr.analysis.utils.UncertaintyUtils;
+import mdpa.gdpr.analysis.core.AnalysisMetrics;
+import mdpa.gdpr.analysis.core.AnalysisProgress;
+import mdpa.gdpr.analysis.core.AnalysisSettings;
 import mdpa.gdpr.analysis.core.ContextAttributeState;
+import mdpa.gdpr.analysis.core.ContextAttributeStateSpliterator;
+import mdpa.gdpr.analysis.core.ContextAttributeStateStatistics;
 import mdpa.gdpr.analysis.core.ContextDependentAttributeScenario;
 import mdpa.gdpr.analysis.core.ContextDependentAttributeSource;
+import mdpa.gdpr.analysis.jfr.EvaluationEvent;
+import mdpa.gdpr.analysis.jfr.ScenarioApplicationEvent;
 import mdpa.gdpr.metamodel.GDPR.Data;
 import mdpa.gdpr.metamodel.GDPR.NaturalPerson;
 import mdpa.gdpr.metamodel.GDPR.PersonalData;
@@ -25,7 +34,6 @@ import org.dataflowanalysis.analysis.dfd.core.DFDTransposeFlowGraph;
 import org.dataflowanalysis.analysis.dfd.core.DFDVertex;
 import org.dataflowanalysis.dfd.datadictionary.DataDictionary;
 import org.dataflowanalysis.dfd.datadictionary.Label;
-import org.dataflowanalysis.dfd.datadictionary.Pin;
 import org.dataflowanalysis.dfd.dataflowdiagram.Node;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 
@@ -35,7 +43,14 @@ public class DFDGDPRTransposeFlowGraph extends DFDTransposeFlowGraph {
     private final DataDictionary dataDictionary;
 
     private final Optional<ContextAttributeState> contextAttributeState;
+    private final List<ContextAttributeState> equivalentStates;
+    private final AnalysisMetrics metrics;
     private final DFDUtils DFDUtils = new DFDUtils();
+    private volatile Map<ContextDependentAttributeScenario, Boolean> scenarioApplicability;
+    private volatile VertexIndex vertexIndex;
+    private volatile DFDGDPRVertex unifiedSink;
+    private volatile ApplicabilityMatrix applicabilityMatrix;
+    private volatile FlowGraphSignature signature;
 
     /**
      * Creates a new dfd transpose flow graph with the given sink that induces the transpose flow graph
@@ -43,10 +58,7 @@ public class DFDGDPRTransposeFlowGraph extends DFDTransposeFlowGraph {
      */
     public DFDGDPRTransposeFlowGraph(AbstractVertex<?> sink, List<ContextDependentAttributeSource> contextDependentAttributes,
             DataDictionary dataDictionary) {
-        super(sink);
-        this.relevantContextDependentAttributes = contextDependentAttributes;
-        this.contextAttributeState = Optional.empty();
-        this.dataDictionary = dataDictionary;
+        this(sink, contextDependentAttributes, Optional.empty(), List.of(), dataDictionary, null, AnalysisMetrics.disabled());
     }
 
     /**
@@ -55,10 +67,59 @@ public class DFDGDPRTransposeFlowGraph extends DFDTransposeFlowGraph {
      */
     public DFDGDPRTransposeFlowGraph(AbstractVertex<?> sink, List<ContextDependentAttributeSource> contextDependentAttributes,
             ContextAttributeState contextAttributeState, DataDictionary dataDictionary) {
+        this(sink, contextDependentAttributes, Optional.of(contextAttributeState), List.of(), dataDictionary, null, AnalysisMetrics.disabled());
+    }
+
+    /**
+     * Creates a new dfd transpose flow graph with the given sink that induces the transpose flow graph and an already
+     * computed applicability matrix
+     * @param sink Sink vertex that induces the transpose flow graph
+     * @param contextDependentAttributes List of {@link ContextDependentAttributeSource}s relevant to the transpose flow graph
+     * @param dataDictionary Data dictionary containing the labels for CDAs
+     * @param applicabilityMatrix {@link ApplicabilityMatrix} computed for the vertices of the transpose flow graph
+     */
+    public DFDGDPRTransposeFlowGraph(AbstractVertex<?> sink, List<ContextDependentAttributeSource> contextDependentAttributes,
+            DataDictionary dataDictionary, ApplicabilityMatrix applicabilityMatrix) {
+        this(sink, contextDependentAttributes, Optional.empty(), List.of(), dataDictionary, applicabilityMatrix, AnalysisMetrics.disabled());
+    }
+
+    /**
+     * Creates a new dfd transpose flow graph with the given sink that induces the transpose flow graph, an optional already
+     * computed applicability matrix and the metrics registry the transpose flow graph and all flow graphs derived from it
+     * record their metrics in
+     * @param sink Sink vertex that induces the transpose flow graph
+     * @param contextDependentAttributes List of {@link ContextDependentAttributeSource}s relevant to the transpose flow graph
+     * @param dataDictionary Data dictionary containing the labels for CDAs
+     * @param applicabilityMatrix {@link ApplicabilityMatrix} of the transpose flow graph or null, if it should be computed
+     * on first use
+     * @param metrics {@link AnalysisMetrics} the resolution and evaluation is recorded in
+     */
+    public DFDGDPRTransposeFlowGraph(AbstractVertex<?> sink, List<ContextDependentAttributeSource> contextDependentAttributes,
+            DataDictionary dataDictionary, ApplicabilityMatrix applicabilityMatrix, AnalysisMetrics metrics) {
+        this(sink, contextDependentAttributes, Optional.empty(), List.of(), dataDictionary, applicabilityMatrix, metrics);
+    }
+
+    /**
+     * Creates a new dfd transpose flow graph with the given sink, the optional state and applicability matrix
+     * @param sink Sink vertex that induces the transpose flow graph
+     * @param contextDependentAttributes List of {@link ContextDependentAttributeSource}s relevant to the transpose flow graph
+     * @param contextAttributeState Optional {@link ContextAttributeState} of the transpose flow graph
+     * @param equivalentStates Further {@link ContextAttributeState}s that result in the same transpose flow graph
+     * @param dataDictionary Data dictionary containing the labels for CDAs
+     * @param applicabilityMatrix {@link ApplicabilityMatrix} of the transpose flow graph or null, if it should be computed
+     * on first use
+     * @param metrics {@link AnalysisMetrics} the resolution and evaluation is recorded in
+     */
+    private DFDGDPRTransposeFlowGraph(AbstractVertex<?> sink, List<ContextDependentAttributeSource> contextDependentAttributes,
+            Optional<ContextAttributeState> contextAttributeState, List<ContextAttributeState> equivalentStates, DataDictionary dataDictionary,
+            ApplicabilityMatrix applicabilityMatrix, AnalysisMetrics metrics) {
         super(sink);
         this.relevantContextDependentAttributes = contextDependentAttributes;
-        this.contextAttributeState = Optional.of(contextAttributeState);
+        this.contextAttributeState = contextAttributeState;
+        this.equivalentStates = equivalentStates;
         this.dataDictionary = dataDictionary;
+        this.applicabilityMatrix = applicabilityMatrix;
+        this.metrics = metrics;
     }
 
     /**
@@ -66,38 +127,241 @@ public class DFDGDPRTransposeFlowGraph extends DFDTransposeFlowGraph {
      * @return Returns a list of transpose flow graphs that each handle different applications of CDAs for this TFG
      */
     public List<DFDGDPRTransposeFlowGraph> determineAlternateFlowGraphs() {
-        List<DFDGDPRTransposeFlowGraph> result = new ArrayList<>();
-        List<ContextAttributeState> states = new ArrayList<>(ContextAttributeState.createAllContextAttributeStates(this.relevantContextDependentAttributes));
-        for (ContextAttributeState state : states) {
-            result.addAll(this.determineAlternateFlowGraphForState(state));
-        }
+        ContextAttributeStateStatistics statistics = new ContextAttributeStateStatistics();
+        List<DFDGDPRTransposeFlowGraph> result = this.determineAlternateFlowGraphs(statistics);
+        logger.info(statistics + " for transpose flow graph with sink " + this.sink);
         return result;
     }
 
     /**
-     * Recursively handles the alternate flow graphs for a given state
+     * Determine the alternate flow graphs that are caused due to the resolving of CDAs.
+     * <p/>
+     * States, where none of the selected scenarios are applicable to this transpose flow graph, are pruned from the state
+     * space without being created
+     * @param statistics {@link ContextAttributeStateStatistics} that record the amount of explored and pruned states
+     * @return Returns a list of transpose flow graphs that each handle different applications of CDAs for this TFG
+     */
+    public List<DFDGDPRTransposeFlowGraph> determineAlternateFlowGraphs(ContextAttributeStateStatistics statistics) {
+        return this.determineAlternateFlowGraphs(statistics, false);
+    }
+
+    /**
+     * Determine the alternate flow graphs that are caused due to the resolving of CDAs.
+     * <p/>
+     * States, where none of the selected scenarios are applicable to this transpose flow graph, are pruned from the state
+     * space without being created. When resolving in parallel, the states are handled concurrently on the current
+     * fork-join pool, while the resulting list keeps the order of the states
+     * @param statistics {@link ContextAttributeStateStatistics} that record the amount of explored and pruned states
+     * @param parallel Whether the states should be resolved in parallel
+     * @return Returns a list of transpose flow graphs that each handle different applications of CDAs for this TFG
+     */
+    public List<DFDGDPRTransposeFlowGraph> determineAlternateFlowGraphs(ContextAttributeStateStatistics statistics, boolean parallel) {
+        return this.streamAlternateFlowGraphs(statistics, parallel)
+                .toList();
+    }
+
+    /**
+     * Lazily determines the alternate flow graphs that are caused due to the resolving of CDAs.
+     * <p/>
+     * In contrast to {@link #determineAlternateFlowGraphs(ContextAttributeStateStatistics, boolean)}, the alternate flow
+     * graphs of a state are only created once the stream reaches the state. Alternate flow graphs that are no longer
+     * referenced by the consumer of the stream can therefore be garbage collected before all states are resolved
+     * @param statistics {@link ContextAttributeStateStatistics} that record the amount of explored and pruned states
+     * @param parallel Whether the states should be resolved in parallel
+     * @return Returns a stream of transpose flow graphs that each handle different applications of CDAs for this TFG
+     */
+    public Stream<DFDGDPRTransposeFlowGraph> streamAlternateFlowGraphs(ContextAttributeStateStatistics statistics, boolean parallel) {
+        return this.streamAlternateFlowGraphs(statistics, parallel, AnalysisSettings.DEFAULT_EXPLORATION_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Lazily determines the alternate flow graphs that are caused due to the resolving of CDAs, while retaining at most the
+     * given amount of partially transformed transpose flow graphs per explored state
+     * @param statistics {@link ContextAttributeStateStatistics} that record the amount of explored and pruned states
+     * @param parallel Whether the states should be resolved in parallel
+     * @param explorationQueueCapacity Maximum amount of partially transformed transpose flow graphs retained per state
+     * @return Returns a stream of transpose flow graphs that each handle different applications of CDAs for this TFG
+     * @see #determineAlternateFlowGraphForState(ContextAttributeState, int)
+     */
+    public Stream<DFDGDPRTransposeFlowGraph> streamAlternateFlowGraphs(ContextAttributeStateStatistics statistics, boolean parallel,
+            int explorationQueueCapacity) {
+        return this.streamAlternateFlowGraphs(statistics, parallel, explorationQueueCapacity, AnalysisProgress.untracked());
+    }
+
+    /**
+     * Lazily determines the alternate flow graphs that are caused due to the resolving of CDAs and reports each resolved
+     * state to the given progress. The enumeration of states stops as soon as the progress does not allow resolving
+     * further states, e.g. because the analysis was cancelled or a budget is exhausted. The progress is checked lazily
+     * when a state is reached, so that a parallel resolution stops as well
+     * @param statistics {@link ContextAttributeStateStatistics} that record the amount of explored and pruned states
+     * @param parallel Whether the states should be resolved in parallel
+     * @param explorationQueueCapacity Maximum amount of partially transformed transpose flow graphs retained per state
+     * @param progress {@link AnalysisProgress} of the analysis
+     * @return Returns a stream of transpose flow graphs that each handle different applications of CDAs for this TFG
+     */
+    public Stream<DFDGDPRTransposeFlowGraph> streamAlternateFlowGraphs(ContextAttributeStateStatistics statistics, boolean parallel,
+            int explorationQueueCapacity, AnalysisProgress progress) {
+        Stream<ContextAttributeState> states = ContextAttributeState.streamApplicableContextAttributeStates(this.relevantContextDependentAttributes,
+                this::isApplicable, statistics);
+        if (progress.isTracked()) {
+            states = StreamSupport.stream(new ProgressSpliterator(states.spliterator(), progress, statistics), false);
+        }
+        if (parallel) {
+            states = states.parallel();
+        }
+        return states.map(it -> {
+            List<DFDGDPRTransposeFlowGraph> alternateFlowGraphs = this.determineAlternateFlowGraphForState(it, explorationQueueCapacity);
+            progress.stateResolved();
+            return alternateFlowGraphs;
+        })
+                .flatMap(List::stream);
+    }
+
+    /**
+     * Returns the size of the state space spanned by the scenarios of the relevant context dependent attributes, including
+     * states that are pruned during the enumeration
+     * @return Returns the total amount of states of the transpose flow graph
+     */
+    public long getStateSpaceSize() {
+        return new ContextAttributeStateSpliterator(this.relevantContextDependentAttributes).getTotalStates();
+    }
+
+    /**
+     * Resolves all states of this transpose flow graph and evaluates the resulting alternate flow graphs in one pass
+     * @param statistics {@link ContextAttributeStateStatistics} that record the amount of explored and pruned states
+     * @return Returns the {@link MultiStateEvaluation} of all states of this transpose flow graph
+     * @see #evaluateStates(ContextAttributeStateStatistics, int, AnalysisProgress)
+     */
+    public MultiStateEvaluation evaluateStates(ContextAttributeStateStatistics statistics) {
+        return this.evaluateStates(statistics, AnalysisSettings.DEFAULT_EXPLORATION_QUEUE_CAPACITY, AnalysisProgress.untracked());
+    }
+
+    /**
+     * Resolves all states of this transpose flow graph and evaluates the resulting alternate flow graphs in one pass.
+     * <p/>
+     * The alternate flow graphs of the states share all vertices that are not affected by the scenarios of their states.
+     * Instead of copying and evaluating each alternate flow graph on its own, the shared vertices are copied and evaluated
+     * once, so that only the vertices that differ between the states are evaluated per state. The states are resolved
+     * sequentially, as the evaluated vertices are shared between the alternate flow graphs
+     * @param statistics {@link ContextAttributeStateStatistics} that record the amount of explored and pruned states
+     * @param explorationQueueCapacity Maximum amount of partially transformed transpose flow graphs retained per state
+     * @param progress {@link AnalysisProgress} of the analysis
+     * @return Returns the {@link MultiStateEvaluation} of all states of this transpose flow graph
+     */
+    public MultiStateEvaluation evaluateStates(ContextAttributeStateStatistics statistics, int explorationQueueCapacity, AnalysisProgress progress) {
+        Map<DFDVertex, DFDVertex> mapping = new IdentityHashMap<>();
+        List<DFDGDPRTransposeFlowGraph> evaluatedTransposeFlowGraphs = this
+                .streamAlternateFlowGraphs(statistics, false, explorationQueueCapacity, progress)
+                .map(it -> {
+                    DFDGDPRTransposeFlowGraph evaluatedTransposeFlowGraph = it.evaluate(mapping);
+                    progress.flowGraphEvaluated();
+                    return evaluatedTransposeFlowGraph;
+                })
+                .toList();
+        return new MultiStateEvaluation(this, evaluatedTransposeFlowGraphs);
+    }
+
+    /**
+     * Determines whether the given {@link ContextDependentAttributeScenario} is applicable to this transpose flow graph.
+     * <p/>
+     * The applicability of the scenarios of all relevant {@link ContextDependentAttributeSource}s is computed once and
+     * cached afterward
+     * @param scenario {@link ContextDependentAttributeScenario} that is checked
+     * @return Returns true, if the scenario is applicable to any vertex of the transpose flow graph. Otherwise, the method
+     * returns false
+     */
+    private boolean isApplicable(ContextDependentAttributeScenario scenario) {
+        Map<ContextDependentAttributeScenario, Boolean> applicability = this.scenarioApplicability;
+        if (applicability == null) {
+            applicability = new IdentityHashMap<>();
+            for (ContextDependentAttributeSource source : this.relevantContextDependentAttributes) {
+                for (ContextDependentAttributeScenario sourceScenario : source.getContextDependentAttributeScenarios()) {
+                    applicability.put(sourceScenario, sourceScenario.applicable(this));
+                }
+            }
+            this.scenarioApplicability = applicability;
+        }
+        Boolean applicable = applicability.get(scenario);
+        if (applicable == null) {
+            return scenario.applicable(this);
+        }
+        return applicable;
+    }
+
+    /**
+     * Handles the alternate flow graphs for a given state
      * @param state Given state of context dependent attributes
      * @return Returns a list of all alternate flow graphs for the given state
+     * @see #determineAlternateFlowGraphForState(ContextAttributeState, int)
      */
     public List<DFDGDPRTransposeFlowGraph> determineAlternateFlowGraphForState(ContextAttributeState state) {
-        List<DFDGDPRTransposeFlowGraph> result = new ArrayList<>();
+        return this.determineAlternateFlowGraphForState(state, AnalysisSettings.DEFAULT_EXPLORATION_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Handles the alternate flow graphs for a given state using a work list.
+     * <p/>
+     * The scenarios of the state are applied one after another. If a scenario requires exploring additional states, the
+     * exploration of each additional state resumes from the partially transformed transpose flow graph at the branching
+     * point instead of reapplying all previous scenarios. This is possible, as the additional states extend the current
+     * state and therefore lead to the same transformations for the previous scenarios. At most the given amount of
+     * partially transformed transpose flow graphs is retained, further additional states are restarted from the original
+     * transpose flow graph when they are explored.
+     * <p/>
+     * The resulting alternate flow graphs are in the same order as the ones of a depth-first exploration
+     * @param state Given state of context dependent attributes
+     * @param explorationQueueCapacity Maximum amount of partially transformed transpose flow graphs that are retained
+     * @return Returns a list of all alternate flow graphs for the given state
+     */
+    public List<DFDGDPRTransposeFlowGraph> determineAlternateFlowGraphForState(ContextAttributeState state, int explorationQueueCapacity) {
         if (state.selectedScenarios()
                 .stream()
-                .noneMatch(it -> it.applicable(this))) {
+                .noneMatch(this::isApplicable)) {
             logger.warn("State not applicable to transpose flow graph, skipping");
+            this.metrics.increment(AnalysisMetrics.Phase.RESOLUTION, AnalysisMetrics.Counter.STATES_SKIPPED);
             return List.of();
         }
-        DFDGDPRTransposeFlowGraph currentTransposeFlowGraph = (DFDGDPRTransposeFlowGraph) this.copy(new HashMap<>(), state);
-
-        for (ContextDependentAttributeScenario scenario : state.selectedScenarios()) {
-            var scenarioResult = this.handleScenario(scenario, currentTransposeFlowGraph, state);
-            if (scenarioResult.states().isEmpty()) {
-                currentTransposeFlowGraph = scenarioResult.transposeFlowGraph().orElse(currentTransposeFlowGraph);
-            } else {
-                return scenarioResult.states().stream().map(this::determineAlternateFlowGraphForState).flatMap(List::stream).toList();
+        ScenarioApplicationEvent event = new ScenarioApplicationEvent();
+        event.begin();
+        long startTime = this.metrics.startTimer();
+        int uncertaintyBranches = 0;
+        List<DFDGDPRTransposeFlowGraph> result = new ArrayList<>();
+        ExplorationQueue queue = new ExplorationQueue(explorationQueueCapacity);
+        queue.addAll(List.of(ExplorationStep.restart(state)));
+        while (!queue.isEmpty()) {
+            ExplorationStep step = queue.poll();
+            ContextAttributeState currentState = step.state();
+            DFDGDPRTransposeFlowGraph currentTransposeFlowGraph = step.transposeFlowGraph()
+                    .orElseGet(() -> this.derive(this.getUnifiedSink(), Optional.of(currentState)));
+            List<ContextDependentAttributeScenario> scenarios = currentState.selectedScenarios();
+            boolean completed = true;
+            for (int index = step.nextScenario(); index < scenarios.size(); index++) {
+                var scenarioResult = this.handleScenario(scenarios.get(index), currentTransposeFlowGraph, currentState);
+                if (scenarioResult.states()
+                        .isEmpty()) {
+                    currentTransposeFlowGraph = scenarioResult.transposeFlowGraph()
+                            .orElse(currentTransposeFlowGraph);
+                    continue;
+                }
+                List<ExplorationStep> branches = new ArrayList<>();
+                for (ContextAttributeState additionalState : scenarioResult.states()) {
+                    DFDGDPRTransposeFlowGraph branchingTransposeFlowGraph = currentTransposeFlowGraph.derive(currentTransposeFlowGraph.sink,
+                            Optional.of(additionalState));
+                    branches.add(new ExplorationStep(Optional.of(branchingTransposeFlowGraph), additionalState, index));
+                }
+                queue.addAll(branches);
+                this.metrics.add(AnalysisMetrics.Phase.RESOLUTION, AnalysisMetrics.Counter.UNCERTAINTY_BRANCHES, branches.size());
+                uncertaintyBranches += branches.size();
+                completed = false;
+                break;
+            }
+            if (completed) {
+                result.add(currentTransposeFlowGraph);
             }
         }
-        return List.of(currentTransposeFlowGraph);
+        this.metrics.stopTimer(AnalysisMetrics.Phase.RESOLUTION, startTime);
+        event.commit(this, state, result.size(), uncertaintyBranches);
+        return result;
     }
 
     /**
@@ -110,18 +374,18 @@ public class DFDGDPRTransposeFlowGraph extends DFDTransposeFlowGraph {
      */
     private ScenarioResult handleScenario(ContextDependentAttributeScenario scenario,
             DFDGDPRTransposeFlowGraph currentTransposeFlowGraph, ContextAttributeState state) {
+        ApplicabilityMatrix applicabilityMatrix = this.getApplicabilityMatrix();
         ContextDependentAttributeSource source = scenario.getContextDependentAttributeSource();
-        Optional<DFDGDPRVertex> matchingVertex = currentTransposeFlowGraph.getVertices()
+        Optional<DFDGDPRVertex> matchingVertex = currentTransposeFlowGraph.getVertexIndex()
+                .getRelatedVertices(source.getAnnotatedElement())
                 .stream()
-                .filter(DFDGDPRVertex.class::isInstance)
-                .map(DFDGDPRVertex.class::cast)
-                .filter(source::applicable)
+                .filter(it -> applicabilityMatrix.isApplicable(source, it))
                 .findFirst();
         if (matchingVertex.isEmpty()) {
             logger.warn("Could not find matching vertex for context dependent attribute");
             return new ScenarioResult(Optional.empty(), List.of());
         }
-        if (!scenario.applicable(matchingVertex.get())) {
+        if (!applicabilityMatrix.isApplicable(scenario, matchingVertex.get())) {
             logger.warn("Scenario not applicable to vertex!");
             return new ScenarioResult(Optional.empty(), List.of());
         }
@@ -146,10 +410,11 @@ public class DFDGDPRTransposeFlowGraph extends DFDTransposeFlowGraph {
      * @return Returns a {@link ScenarioResult} either containing new states to be explored, or an alternate flow graph with the applied scenario
      */
     private ScenarioResult handlePersonalDataCharacteristicScenario(DFDGDPRTransposeFlowGraph currentTransposeFlowGraph, ContextDependentAttributeSource source, ContextDependentAttributeScenario scenario, ContextAttributeState state, NaturalPerson person) {
+        ApplicabilityMatrix applicabilityMatrix = this.getApplicabilityMatrix();
         List<DFDGDPRVertex> targetedVertices = this.determineTargetedVertices(currentTransposeFlowGraph, scenario);
 
         for (DFDGDPRVertex targetVertex : targetedVertices) {
-            if (!source.applicable(targetVertex) && state.doesNotHandle(targetVertex)) {
+            if (!applicabilityMatrix.isApplicable(source, targetVertex) && state.doesNotHandle(targetVertex, applicabilityMatrix)) {
                 List<ContextAttributeState> additionalStates = new ArrayList<>();
                 ContextDependentAttributeSource additionalSource = new ContextDependentAttributeSource(source.getAnnotation(), source.getScopeDependentAssessmentFact().getExpression(), List.of(source));
                 for (Expression expression : source.getScopeDependentAssessmentFact().getExpression()) {
@@ -160,19 +425,8 @@ public class DFDGDPRTransposeFlowGraph extends DFDTransposeFlowGraph {
                 logger.warn("Explore with Uncertainty!");
                 return new ScenarioResult(Optional.empty(), additionalStates);
             }
-            DFDGDPRVertex currentTargetVertex = currentTransposeFlowGraph.getVertices()
-                    .stream()
-                    .filter(DFDGDPRVertex.class::isInstance)
-                    .map(DFDGDPRVertex.class::cast)
-                    .filter(it -> it.getReferencedElement()
-                            .getId()
-                            .equals(targetVertex.getReferencedElement()
-                                    .getId()))
-                    .filter(it -> it.getReferencedElement()
-                            .getEntityName()
-                            .equals(targetVertex.getReferencedElement()
-                                    .getEntityName()))
-                    .findAny()
+            DFDGDPRVertex currentTargetVertex = currentTransposeFlowGraph.getVertexIndex()
+                    .findVertex(targetVertex.getReferencedElement())
                     .orElseThrow();
             DFDGDPRVertex impactedElement = currentTargetVertex.getPreviousElements()
                     .stream()
@@ -187,6 +441,7 @@ public class DFDGDPRTransposeFlowGraph extends DFDTransposeFlowGraph {
                     .findAny()
                     .orElse(currentTargetVertex);
             Node replacingNode = DFDUtils.copyNode(impactedElement.getReferencedElement());
+            this.metrics.increment(AnalysisMetrics.Phase.RESOLUTION, AnalysisMetrics.Counter.NODES_CLONED);
             UncertaintyUtils.impactBehavior(replacingNode, impactedElement, dataDictionary, source, scenario, person);
             DFDGDPRVertex replacingVertex = this.copyVertex(impactedElement, replacingNode);
             List<ContextDependentAttributeScenario> scenarios = new ArrayList<>(impactedElement.getContextDependentAttributes());
@@ -210,10 +465,11 @@ public class DFDGDPRTransposeFlowGraph extends DFDTransposeFlowGraph {
      * @return Returns a {@link ScenarioResult} either containing new states to be explored, or an alternate flow graph with the applied scenario
      */
     private ScenarioResult handleDataCharacteristicScenario(DFDGDPRTransposeFlowGraph currentTransposeFlowGraph, ContextDependentAttributeSource source, ContextDependentAttributeScenario scenario, ContextAttributeState state, Data data) {
+        ApplicabilityMatrix applicabilityMatrix = this.getApplicabilityMatrix();
         List<DFDGDPRVertex> targetedVertices = this.determineTargetedVertices(currentTransposeFlowGraph, scenario);
 
         for (DFDGDPRVertex targetVertex : targetedVertices) {
-            if (!source.applicable(targetVertex) && state.doesNotHandle(targetVertex)) {
+            if (!applicabilityMatrix.isApplicable(source, targetVertex) && state.doesNotHandle(targetVertex, applicabilityMatrix)) {
                 List<ContextAttributeState> additionalStates = new ArrayList<>();
                 ContextDependentAttributeSource additionalSource = new ContextDependentAttributeSource(source.getAnnotation(), source.getScopeDependentAssessmentFact().getExpression(), List.of(source));
                 for (Expression expression : source.getScopeDependentAssessmentFact().getExpression()) {
@@ -224,19 +480,8 @@ public class DFDGDPRTransposeFlowGraph extends DFDTransposeFlowGraph {
                 logger.warn("Explore with Uncertainty!");
                 return new ScenarioResult(Optional.empty(), additionalStates);
             }
-            DFDGDPRVertex currentTargetVertex = currentTransposeFlowGraph.getVertices()
-                    .stream()
-                    .filter(DFDGDPRVertex.class::isInstance)
-                    .map(DFDGDPRVertex.class::cast)
-                    .filter(it -> it.getReferencedElement()
-                            .getId()
-                            .equals(targetVertex.getReferencedElement()
-                                    .getId()))
-                    .filter(it -> it.getReferencedElement()
-                            .getEntityName()
-                            .equals(targetVertex.getReferencedElement()
-                                    .getEntityName()))
-                    .findAny()
+            DFDGDPRVertex currentTargetVertex = currentTransposeFlowGraph.getVertexIndex()
+                    .findVertex(targetVertex.getReferencedElement())
                     .orElseThrow();
             DFDGDPRVertex impactedElement = currentTargetVertex.getPreviousElements()
                     .stream()
@@ -247,6 +492,7 @@ public class DFDGDPRTransposeFlowGraph extends DFDTransposeFlowGraph {
                     .findAny()
                     .orElse(currentTargetVertex);
             Node replacingNode = DFDUtils.copyNode(impactedElement.getReferencedElement());
+            this.metrics.increment(AnalysisMetrics.Phase.RESOLUTION, AnalysisMetrics.Counter.NODES_CLONED);
             UncertaintyUtils.impactBehavior(replacingNode, impactedElement, dataDictionary, source, scenario, data);
             DFDGDPRVertex replacingVertex = this.copyVertex(impactedElement, replacingNode);
             List<ContextDependentAttributeScenario> scenarios = new ArrayList<>(impactedElement.getContextDependentAttributes());
@@ -269,26 +515,21 @@ public class DFDGDPRTransposeFlowGraph extends DFDTransposeFlowGraph {
      * @return Returns a {@link ScenarioResult} either containing new states to be explored, or an alternate flow graph with the applied scenario
      */
     private ScenarioResult handleNodeCharacteristicScenario(DFDGDPRTransposeFlowGraph currentTransposeFlowGraph, ContextDependentAttributeSource source, ContextDependentAttributeScenario scenario, ContextAttributeState state) {
-        List<String> matchingVertices = currentTransposeFlowGraph.getVertices()
+        ApplicabilityMatrix applicabilityMatrix = this.getApplicabilityMatrix();
+        List<String> matchingVertices = currentTransposeFlowGraph.getVertexIndex()
+                .getRelatedVertices(source.getAnnotatedElement())
                 .stream()
-                .filter(DFDGDPRVertex.class::isInstance)
-                .map(DFDGDPRVertex.class::cast)
-                .filter(source::applicable)
-                .filter(scenario::applicable)
+                .filter(it -> applicabilityMatrix.isApplicable(source, it))
+                .filter(it -> applicabilityMatrix.isApplicable(scenario, it))
                 .map(it -> it.getReferencedElement()
                         .getId())
                 .toList();
         for (String targetVertexID : matchingVertices) {
-            DFDGDPRVertex targetVertex = currentTransposeFlowGraph.getVertices()
-                    .stream()
-                    .filter(DFDGDPRVertex.class::isInstance)
-                    .map(DFDGDPRVertex.class::cast)
-                    .filter(it -> it.getReferencedElement()
-                            .getId()
-                            .equals(targetVertexID))
-                    .findFirst()
+            DFDGDPRVertex targetVertex = currentTransposeFlowGraph.getVertexIndex()
+                    .findVertex(targetVertexID)
                     .orElseThrow();
             Node replacingNode = EcoreUtil.copy(targetVertex.getReferencedElement());
+            this.metrics.increment(AnalysisMetrics.Phase.RESOLUTION, AnalysisMetrics.Counter.NODES_CLONED);
 
             List<Label> labels = UncertaintyUtils.getAppliedLabel(source, scenario, dataDictionary);
             replacingNode.getProperties()
@@ -308,11 +549,13 @@ public class DFDGDPRTransposeFlowGraph extends DFDTransposeFlowGraph {
 
     private List<DFDGDPRVertex> determineTargetedVertices(DFDGDPRTransposeFlowGraph currentTransposeFlowGraph,
             ContextDependentAttributeScenario scenario) {
-        List<DFDGDPRVertex> targetedVertices = currentTransposeFlowGraph.getVertices()
+        ApplicabilityMatrix applicabilityMatrix = this.getApplicabilityMatrix();
+        List<DFDGDPRVertex> targetedVertices = currentTransposeFlowGraph.getVertexIndex()
+                .getRelatedVertices(scenario.getContextDependentAttributeSource()
+                        .getAnnotation()
+                        .getAnnotatedElement())
                 .stream()
-                .filter(DFDGDPRVertex.class::isInstance)
-                .map(DFDGDPRVertex.class::cast)
-                .filter(scenario::applicable)
+                .filter(it -> applicabilityMatrix.isApplicable(scenario, it))
                 .toList();
         List<DFDGDPRVertex> finalTargetedVertices = targetedVertices;
         targetedVertices = targetedVertices.stream()
@@ -321,8 +564,93 @@ public class DFDGDPRTransposeFlowGraph extends DFDTransposeFlowGraph {
         return targetedVertices;
     }
 
+    /**
+     * Returns the index over the vertices of this transpose flow graph. The index is created on first use
+     * @return Returns the {@link VertexIndex} of the transpose flow graph
+     */
+    private VertexIndex getVertexIndex() {
+        VertexIndex index = this.vertexIndex;
+        if (index == null) {
+            index = new VertexIndex(this.getVertices());
+            this.vertexIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the applicability matrix of this transpose flow graph, which is shared with all transpose flow graphs derived
+     * from it. If no matrix was provided on creation, it is computed on first use
+     * @return Returns the {@link ApplicabilityMatrix} of the transpose flow graph
+     */
+    public ApplicabilityMatrix getApplicabilityMatrix() {
+        ApplicabilityMatrix matrix = this.applicabilityMatrix;
+        if (matrix == null) {
+            matrix = new ApplicabilityMatrix(this.getVertices()
+                    .stream()
+                    .filter(DFDGDPRVertex.class::isInstance)
+                    .map(DFDGDPRVertex.class::cast)
+                    .toList(), this.relevantContextDependentAttributes);
+            this.applicabilityMatrix = matrix;
+        }
+        return matrix;
+    }
+
+    /**
+     * Creates a new transpose flow graph with the given sink and state that is derived from this transpose flow graph. The
+     * derived transpose flow graph shares the relevant sources and the applicability matrix with this transpose flow graph
+     * @param sink Sink of the derived transpose flow graph
+     * @param state Optional {@link ContextAttributeState} of the derived transpose flow graph
+     * @return Returns the derived transpose flow graph
+     */
+    private DFDGDPRTransposeFlowGraph derive(AbstractVertex<?> sink, Optional<ContextAttributeState> state) {
+        List<ContextAttributeState> equivalentStates = state.equals(this.contextAttributeState) ? this.equivalentStates : List.of();
+        return new DFDGDPRTransposeFlowGraph(sink, this.relevantContextDependentAttributes, state, equivalentStates, this.dataDictionary,
+                this.getApplicabilityMatrix(), this.metrics);
+    }
+
+    /**
+     * Returns the canonical signature of this transpose flow graph. Alternate flow graphs with equal signatures are
+     * structurally identical and produce the same result when evaluated. The signature is computed on first use
+     * @return Returns the {@link FlowGraphSignature} of the transpose flow graph
+     */
+    public FlowGraphSignature getSignature() {
+        FlowGraphSignature flowGraphSignature = this.signature;
+        if (flowGraphSignature == null) {
+            flowGraphSignature = new FlowGraphSignature(this);
+            this.signature = flowGraphSignature;
+        }
+        return flowGraphSignature;
+    }
+
+    /**
+     * Creates a new transpose flow graph sharing the vertices of this transpose flow graph that additionally represents the
+     * given states. This is used to collapse structurally identical alternate flow graphs into one
+     * @param states {@link ContextAttributeState}s of the alternate flow graphs that are identical to this one
+     * @return Returns a new transpose flow graph representing the state of this transpose flow graph and the given states
+     */
+    DFDGDPRTransposeFlowGraph withEquivalentStates(List<ContextAttributeState> states) {
+        List<ContextAttributeState> equivalentStates = new ArrayList<>(this.equivalentStates);
+        equivalentStates.addAll(states);
+        DFDGDPRTransposeFlowGraph transposeFlowGraph = new DFDGDPRTransposeFlowGraph(this.sink, this.relevantContextDependentAttributes,
+                this.contextAttributeState, List.copyOf(equivalentStates), this.dataDictionary, this.getApplicabilityMatrix(), this.metrics);
+        transposeFlowGraph.signature = this.signature;
+        return transposeFlowGraph;
+    }
+
     @Override
     public AbstractTransposeFlowGraph evaluate() {
+        return this.evaluate(new IdentityHashMap<>());
+    }
+
+    /**
+     * Evaluates the data flow of this transpose flow graph on a copy of its vertices. Vertices that are already contained in
+     * the given mapping are not copied again, but their evaluated copy is reused. Therefore, alternate flow graphs of the
+     * same transpose flow graph that are evaluated with the same mapping only copy and evaluate their shared vertices once
+     * @param mapping Mapping between the vertices and their evaluated copies, which is extended by the copied vertices
+     * @return Returns the evaluated transpose flow graph
+     * @see MultiStateEvaluation
+     */
+    DFDGDPRTransposeFlowGraph evaluate(Map<DFDVertex, DFDVertex> mapping) {
         if (!(this.sink instanceof DFDGDPRVertex dfdSink)) {
             logger.error("Stored sink of DFD Transpose flow graph is not a DFDVertex");
             throw new IllegalStateException("Stored sink of DFD Transpose flow graph is not a DFD Vertex");
@@ -331,10 +659,38 @@ public class DFDGDPRTransposeFlowGraph extends DFDTransposeFlowGraph {
             logger.error("Before evaluating the data flow, alternative flow graphs need to be created!");
             throw new IllegalStateException();
         }
-        DFDGDPRVertex newSink = dfdSink.copy(new IdentityHashMap<>());
+        EvaluationEvent event = new EvaluationEvent();
+        event.begin();
+        long startTime = this.metrics.startTimer();
+        int mappedVertices = mapping.size();
+        DFDGDPRVertex newSink = mapping.containsKey(dfdSink) ? (DFDGDPRVertex) mapping.get(dfdSink) : dfdSink.copy(mapping);
         newSink.unify(new HashSet<>());
         newSink.evaluateDataFlow();
-        return new DFDGDPRTransposeFlowGraph(newSink, this.relevantContextDependentAttributes, this.contextAttributeState.get(), this.dataDictionary);
+        DFDGDPRTransposeFlowGraph evaluatedTransposeFlowGraph = this.derive(newSink, this.contextAttributeState);
+        if (this.metrics.isEnabled()) {
+            this.metrics.add(AnalysisMetrics.Phase.EVALUATION, AnalysisMetrics.Counter.VERTICES_COPIED, mapping.size() - mappedVertices);
+            this.metrics.add(AnalysisMetrics.Phase.EVALUATION, AnalysisMetrics.Counter.LABELS_PROPAGATED,
+                    this.countPropagatedLabels(evaluatedTransposeFlowGraph));
+        }
+        this.metrics.stopTimer(AnalysisMetrics.Phase.EVALUATION, startTime);
+        event.commit(evaluatedTransposeFlowGraph);
+        return evaluatedTransposeFlowGraph;
+    }
+
+    /**
+     * Counts the labels of the data characteristics that were propagated to the vertices of the given evaluated transpose
+     * flow graph
+     * @param transposeFlowGraph Evaluated transpose flow graph
+     * @return Returns the total amount of propagated labels
+     */
+    private long countPropagatedLabels(DFDGDPRTransposeFlowGraph transposeFlowGraph) {
+        return transposeFlowGraph.getVertices()
+                .stream()
+                .flatMap(vertex -> vertex.getAllDataCharacteristics()
+                        .stream())
+                .mapToLong(dataCharacteristic -> dataCharacteristic.getAllCharacteristics()
+                        .size())
+                .sum();
     }
 
     public List<ContextDependentAttributeSource> getContextDependentAttributeSources() {
@@ -348,14 +704,31 @@ public class DFDGDPRTransposeFlowGraph extends DFDTransposeFlowGraph {
      * @return Returns a new dfd vertex with the given node and maps of the given vertex
      */
     private DFDGDPRVertex copyVertex(DFDGDPRVertex vertex, Node replacingElement) {
-        Map<Pin, DFDVertex> copiedPinDFDVertexMap = new HashMap<>();
-        vertex.getPinDFDVertexMap()
-                .keySet()
-                .forEach(key -> copiedPinDFDVertexMap.put(key, vertex.getPinDFDVertexMap()
-                        .get(key)
-                        .copy(new HashMap<>())));
-        return new DFDGDPRVertex(replacingElement, copiedPinDFDVertexMap, new HashMap<>(vertex.getPinFlowMap()),
-                new ArrayList<>(vertex.getRelatedElements()));
+        this.metrics.increment(AnalysisMetrics.Phase.RESOLUTION, AnalysisMetrics.Counter.VERTICES_COPIED);
+        return new DFDGDPRVertex(replacingElement, new HashMap<>(vertex.getPinDFDVertexMap()), new HashMap<>(vertex.getPinFlowMap()),
+                vertex.getRelatedElementSet());
+    }
+
+    /**
+     * Returns the unified copy of the vertices of this transpose flow graph, which is shared by all alternate flow graphs.
+     * The copy is created on first use
+     * @return Returns the sink of the unified copy
+     */
+    private DFDGDPRVertex getUnifiedSink() {
+        DFDGDPRVertex unified = this.unifiedSink;
+        if (unified == null) {
+            synchronized (this) {
+                unified = this.unifiedSink;
+                if (unified == null) {
+                    Map<DFDVertex, DFDVertex> mapping = new IdentityHashMap<>();
+                    unified = ((DFDGDPRVertex) this.sink).copy(mapping);
+                    unified.unify(new HashSet<>());
+                    this.metrics.add(AnalysisMetrics.Phase.RESOLUTION, AnalysisMetrics.Counter.VERTICES_COPIED, mapping.size());
+                    this.unifiedSink = unified;
+                }
+            }
+        }
+        return unified;
     }
 
     @Override
@@ -364,27 +737,66 @@ public class DFDGDPRTransposeFlowGraph extends DFDTransposeFlowGraph {
         if (mapping.containsKey((DFDVertex) this.sink)) {
             copiedSink = (DFDGDPRVertex) mapping.get(this.sink);
         } else {
+            int mappedVertices = mapping.size();
             copiedSink = ((DFDGDPRVertex) sink).copy(mapping);
+            this.metrics.add(AnalysisMetrics.Phase.RESOLUTION, AnalysisMetrics.Counter.VERTICES_COPIED, mapping.size() - mappedVertices);
         }
         copiedSink.unify(new HashSet<>());
-        return this.contextAttributeState
-                .map(attributeState -> new DFDGDPRTransposeFlowGraph(copiedSink, this.relevantContextDependentAttributes, attributeState,
-                        this.dataDictionary))
-                .orElseGet(() -> new DFDGDPRTransposeFlowGraph(copiedSink, this.relevantContextDependentAttributes, this.dataDictionary));
+        return this.derive(copiedSink, this.contextAttributeState);
     }
 
+    /**
+     * Creates a path copy of the transpose flow graph with the given state, where the vertices in the given mapping are
+     * replaced. Only the replaced vertices and their successors up to the sink are copied, while all other vertices are
+     * shared with this transpose flow graph. Shared vertices are never modified, as {@link #evaluate()} operates on a
+     * separate copy
+     * @param mapping Mapping between vertices and their replacements
+     * @param contextAttributeState {@link ContextAttributeState} of the resulting transpose flow graph
+     * @return Returns a new transpose flow graph with the replaced vertices
+     */
     public AbstractTransposeFlowGraph copy(Map<DFDVertex, DFDVertex> mapping, ContextAttributeState contextAttributeState) {
-        DFDGDPRVertex copiedSink;
-        if (mapping.containsKey((DFDVertex) this.sink)) {
-            copiedSink = (DFDGDPRVertex) mapping.get(this.sink);
-        } else {
-            copiedSink = ((DFDGDPRVertex) sink).copy(mapping);
+        Map<DFDVertex, DFDVertex> visited = new IdentityHashMap<>();
+        DFDVertex copiedSink = ((DFDGDPRVertex) this.sink).replace(mapping, visited);
+        if (this.metrics.isEnabled()) {
+            this.metrics.add(AnalysisMetrics.Phase.RESOLUTION, AnalysisMetrics.Counter.VERTICES_COPIED, visited.entrySet()
+                    .stream()
+                    .filter(it -> it.getKey() != it.getValue())
+                    .count());
         }
-        copiedSink.unify(new HashSet<>());
-        return new DFDGDPRTransposeFlowGraph(copiedSink, this.relevantContextDependentAttributes, contextAttributeState, this.dataDictionary);
+        return this.derive(copiedSink, Optional.of(contextAttributeState));
     }
 
     public ContextAttributeState getContextAttributeState() {
         return contextAttributeState.orElseThrow();
     }
+
+    /**
+     * Returns all {@link ContextAttributeState}s represented by this transpose flow graph. Besides its own state, these
+     * contain the states of structurally identical alternate flow graphs that were collapsed into this one
+     * @return Returns an unmodifiable list of the represented states, starting with the state of this transpose flow graph
+     */
+    public List<ContextAttributeState> getContextAttributeStates() {
+        List<ContextAttributeState> states = new ArrayList<>();
+        this.contextAttributeState.ifPresent(states::add);
+        states.addAll(this.equivalentStates);
+        return Collections.unmodifiableList(states);
+    }
+
+    /**
+     * Returns the amount of {@link ContextAttributeState}s represented by this transpose flow graph
+     * @return Returns the amount of states that result in this transpose flow graph
+     * @see #getContextAttributeStates()
+     */
+    public int getStateCount() {
+        return this.contextAttributeState.map(it -> 1)
+                .orElse(0) + this.equivalentStates.size();
+    }
+
+    /**
+     * Returns the data dictionary that contains the labels used by the transpose flow graph
+     * @return Returns the {@link DataDictionary} of the transpose flow graph
+     */
+    public DataDictionary getDataDictionary() {
+        return this.dataDictionary;
+    }
 }
@@ -2,13 +2,14 @@ package mdpa.gdpr.analysis.dfd;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import mdpa.gdpr.analysis.core.ContextDependentAttributeScenario;
 import mdpa.gdpr.metamodel.GDPR.AbstractGDPRElement;
 import mdpa.gdpr.metamodel.GDPR.Data;
 import mdpa.gdpr.metamodel.GDPR.LegalBasis;
-import mdpa.gdpr.metamodel.GDPR.Processing;
 import mdpa.gdpr.metamodel.GDPR.Purpose;
 import mdpa.gdpr.metamodel.GDPR.Role;
 import org.dataflowanalysis.analysis.dfd.core.DFDVertex;
@@ -18,7 +19,7 @@ import org.dataflowanalysis.dfd.dataflowdiagram.Node;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 
 public class DFDGDPRVertex extends DFDVertex {
-    private final List<AbstractGDPRElement> relatedElements;
+    private final RelatedElements relatedElements;
     private List<ContextDependentAttributeScenario> contextDependentAttributes;
 
     /**
@@ -29,19 +30,112 @@ public class DFDGDPRVertex extends DFDVertex {
      * other vertices
      */
     public DFDGDPRVertex(Node node, Map<Pin, DFDVertex> pinDFDVertexMap, Map<Pin, Flow> pinFlowMap, List<AbstractGDPRElement> relatedElements) {
+        this(node, pinDFDVertexMap, pinFlowMap, new RelatedElements(relatedElements));
+    }
+
+    /**
+     * Creates a new vertex with the given referenced node, pin mappings and already determined related elements
+     * @param node Node that is referenced by the vertex
+     * @param pinDFDVertexMap Map containing relationships between the pins of the vertex and previous vertices
+     * @param pinFlowMap Map containing relationships between the pins of the vertex and the flows connecting the node to
+     * other vertices
+     * @param relatedElements {@link RelatedElements} of the vertex, which may be shared with other vertices
+     */
+    public DFDGDPRVertex(Node node, Map<Pin, DFDVertex> pinDFDVertexMap, Map<Pin, Flow> pinFlowMap, RelatedElements relatedElements) {
         super(node, pinDFDVertexMap, pinFlowMap);
         this.relatedElements = relatedElements;
         this.contextDependentAttributes = new ArrayList<>();
     }
 
     /**
-     * Creates a clone of the vertex without considering data characteristics nor vertex characteristics
+     * Creates a clone of the vertex without considering data characteristics nor vertex characteristics.
+     * <p/>
+     * Each copied vertex is stored in the given mapping, so vertices that are reachable via multiple paths are only copied
+     * once
      */
     public DFDGDPRVertex copy(Map<DFDVertex, DFDVertex> mapping) {
         Map<Pin, DFDVertex> copiedPinDFDVertexMap = this.copyPinDFDVertexMap(mapping);
         Map<Pin, Flow> copiedPinFlowMap = this.copyPinFlowMap(copiedPinDFDVertexMap);
-        DFDGDPRVertex copy = new DFDGDPRVertex(this.referencedElement, copiedPinDFDVertexMap, copiedPinFlowMap,
-                new ArrayList<>(this.relatedElements));
+        DFDGDPRVertex copy = new DFDGDPRVertex(this.referencedElement, copiedPinDFDVertexMap, copiedPinFlowMap, this.relatedElements);
+        if (!this.contextDependentAttributes.isEmpty()) {
+            copy.setContextDependentAttributes(this.contextDependentAttributes);
+        }
+        mapping.put(this, copy);
+        return copy;
+    }
+
+    /**
+     * Creates a path copy of the vertex, where the vertices in the given mapping are replaced.
+     * <p/>
+     * In contrast to {@link #copy(Map)}, only vertices that are replaced or have a (transitive) predecessor that is
+     * replaced are copied. All other predecessors are shared between the returned vertex and this vertex. Therefore, the
+     * vertices must not be modified afterward, e.g. by unifying or evaluating them.
+     * @param mapping Mapping between vertices and their replacements
+     * @return Returns a vertex with the replacements applied. If no predecessor is replaced, the vertex itself is returned
+     */
+    public DFDVertex replace(Map<DFDVertex, DFDVertex> mapping) {
+        return this.replace(mapping, new IdentityHashMap<>());
+    }
+
+    /**
+     * Creates a path copy of the vertex, where the vertices in the given mapping are replaced. Afterward, the given map
+     * contains each visited vertex and its result, which differs from the vertex itself, if the vertex was copied
+     * @param mapping Mapping between vertices and their replacements
+     * @param visited Initially empty map that is filled with the visited vertices and their results
+     * @return Returns a vertex with the replacements applied. If no predecessor is replaced, the vertex itself is returned
+     * @see #replace(Map)
+     */
+    DFDVertex replace(Map<DFDVertex, DFDVertex> mapping, Map<DFDVertex, DFDVertex> visited) {
+        return replace(this, mapping, visited);
+    }
+
+    /**
+     * Applies the replacements in the given mapping to the given vertex and its predecessors
+     * @param vertex Vertex the replacements should be applied to
+     * @param mapping Mapping between vertices and their replacements
+     * @param visited Already handled vertices and their (possibly identical) results
+     * @return Returns the vertex with the replacements applied
+     */
+    private static DFDVertex replace(DFDVertex vertex, Map<DFDVertex, DFDVertex> mapping, Map<DFDVertex, DFDVertex> visited) {
+        if (mapping.containsKey(vertex)) {
+            return mapping.get(vertex);
+        }
+        if (visited.containsKey(vertex)) {
+            return visited.get(vertex);
+        }
+        DFDVertex result = vertex;
+        if (vertex instanceof DFDGDPRVertex gdprVertex) {
+            Map<Pin, DFDVertex> replacedPredecessors = new HashMap<>();
+            gdprVertex.getPinDFDVertexMap()
+                    .forEach((pin, predecessor) -> {
+                        DFDVertex replacedPredecessor = replace(predecessor, mapping, visited);
+                        if (replacedPredecessor != predecessor) {
+                            replacedPredecessors.put(pin, replacedPredecessor);
+                        }
+                    });
+            if (!replacedPredecessors.isEmpty()) {
+                result = gdprVertex.withPredecessors(replacedPredecessors);
+            }
+        }
+        visited.put(vertex, result);
+        return result;
+    }
+
+    /**
+     * Creates a copy of the vertex, where the predecessors at the given pins are replaced. The flows of the replaced
+     * predecessors are copied and connected to the new predecessors, while all other predecessors and flows are shared
+     * @param replacedPredecessors Map from the pins of the vertex to the replacing predecessors
+     * @return Returns a new vertex with the replaced predecessors
+     */
+    private DFDGDPRVertex withPredecessors(Map<Pin, DFDVertex> replacedPredecessors) {
+        Map<Pin, DFDVertex> copiedPinDFDVertexMap = new HashMap<>(this.pinDFDVertexMap);
+        copiedPinDFDVertexMap.putAll(replacedPredecessors);
+        Map<Pin, Flow> copiedPinFlowMap = new HashMap<>(this.pinFlowMap);
+        replacedPredecessors.keySet()
+                .stream()
+                .filter(this.pinFlowMap::containsKey)
+                .forEach(key -> copiedPinFlowMap.put(key, this.copyFlow(key, replacedPredecessors.get(key))));
+        DFDGDPRVertex copy = new DFDGDPRVertex(this.referencedElement, copiedPinDFDVertexMap, copiedPinFlowMap, this.relatedElements);
         if (!this.contextDependentAttributes.isEmpty()) {
             copy.setContextDependentAttributes(this.contextDependentAttributes);
         }
@@ -55,9 +149,13 @@ public class DFDGDPRVertex extends DFDVertex {
      */
     private Map<Pin, DFDVertex> copyPinDFDVertexMap(Map<DFDVertex, DFDVertex> mapping) {
         Map<Pin, DFDVertex> copiedPinDFDVertexMap = new HashMap<>();
-        this.pinDFDVertexMap.keySet()
-                .forEach(key -> copiedPinDFDVertexMap.put(key, mapping.getOrDefault(this.pinDFDVertexMap.get(key), this.pinDFDVertexMap.get(key)
-                        .copy(mapping))));
+        this.pinDFDVertexMap.forEach((key, predecessor) -> {
+            DFDVertex copiedPredecessor = mapping.get(predecessor);
+            if (copiedPredecessor == null) {
+                copiedPredecessor = predecessor.copy(mapping);
+            }
+            copiedPinDFDVertexMap.put(key, copiedPredecessor);
+        });
         return copiedPinDFDVertexMap;
     }
 
@@ -69,19 +167,27 @@ public class DFDGDPRVertex extends DFDVertex {
     private Map<Pin, Flow> copyPinFlowMap(Map<Pin, DFDVertex> pinDFDVertexMap) {
         Map<Pin, Flow> copiedPinFlowMap = new HashMap<>();
         this.pinFlowMap.keySet()
-                .forEach(key -> {
-                    Pin correspondingPin = pinDFDVertexMap.get(key).getReferencedElement().getBehavior().getOutPin().stream()
-                            .filter(it -> it.getEntityName().equals(key.getEntityName()))
-                            .findAny()
-                            .orElseThrow();
-                    Flow flow = EcoreUtil.copy(this.pinFlowMap.get(key));
-                    flow.setSourcePin(correspondingPin);
-                    flow.setSourceNode(pinDFDVertexMap.get(key).getReferencedElement());
-                    copiedPinFlowMap.put(key, flow);
-                });
+                .forEach(key -> copiedPinFlowMap.put(key, this.copyFlow(key, pinDFDVertexMap.get(key))));
         return copiedPinFlowMap;
     }
 
+    /**
+     * Copies the flow at the given pin and connects it to the corresponding output pin of the given predecessor
+     * @param key Pin of the vertex the flow is connected to
+     * @param predecessor Predecessor the copied flow should originate from
+     * @return Returns the copied flow originating from the given predecessor
+     */
+    private Flow copyFlow(Pin key, DFDVertex predecessor) {
+        Pin correspondingPin = predecessor.getReferencedElement().getBehavior().getOutPin().stream()
+                .filter(it -> it.getEntityName().equals(key.getEntityName()))
+                .findAny()
+                .orElseThrow();
+        Flow flow = EcoreUtil.copy(this.pinFlowMap.get(key));
+        flow.setSourcePin(correspondingPin);
+        flow.setSourceNode(predecessor.getReferencedElement());
+        return flow;
+    }
+
     public void setContextDependentAttributes(List<ContextDependentAttributeScenario> contextDependentAttributes) {
         this.contextDependentAttributes = contextDependentAttributes;
     }
@@ -91,43 +197,46 @@ public class DFDGDPRVertex extends DFDVertex {
     }
 
     public List<AbstractGDPRElement> getRelatedElements() {
+        return this.relatedElements.asList();
+    }
+
+    /**
+     * Returns the set of related elements of the vertex, which is shared with all copies of the vertex
+     * @return Returns the {@link RelatedElements} of the vertex
+     */
+    public RelatedElements getRelatedElementSet() {
         return this.relatedElements;
     }
 
+    /**
+     * Determines whether the given element is related to the vertex in constant time
+     * @param element Element that is checked
+     * @return Returns true, if the element is related to the vertex. Otherwise, the method returns false
+     */
+    public boolean hasRelatedElement(Object element) {
+        return this.relatedElements.contains(element);
+    }
+
     public List<Data> getIncomingData() {
-        return this.relatedElements.stream()
-                .filter(Data.class::isInstance)
-                .map(Data.class::cast)
-                .toList();
+        return this.relatedElements.getData();
     }
 
     public List<Data> getOutgoingData() {
-        return this.relatedElements.stream()
-                .filter(Data.class::isInstance)
-                .map(Data.class::cast)
-                .toList();
+        return this.relatedElements.getData();
     }
 
     public List<Purpose> getPurpose() {
-        return this.relatedElements.stream()
-                .filter(Purpose.class::isInstance)
-                .map(Purpose.class::cast)
-                .toList();
+        return this.relatedElements.getPurposes();
     }
 
     public List<LegalBasis> getLegalBasis() {
-        return this.relatedElements.stream()
-                .filter(LegalBasis.class::isInstance)
-                .map(LegalBasis.class::cast)
-                .toList();
+        return this.relatedElements.getLegalBases();
     }
 
     public Role getResponsibilityRole() {
-        return this.relatedElements.stream()
-                .filter(Processing.class::isInstance)
-                .map(Processing.class::cast)
-                .map(Processing::getResponsible)
-                .findAny()
-                .orElseThrow();
+        if (!this.relatedElements.hasProcessing()) {
+            throw new NoSuchElementException("Vertex does not relate to a processing element");
+        }
+        return this.relatedElements.getResponsibilityRole();
     }
 }
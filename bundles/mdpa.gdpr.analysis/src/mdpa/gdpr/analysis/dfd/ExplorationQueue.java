@@ -0,0 +1,75 @@
+package mdpa.gdpr.analysis.dfd;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Work list of pending {@link ExplorationStep}s used while determining the alternate flow graphs of a
+ * {@link mdpa.gdpr.analysis.core.ContextAttributeState}.
+ * <p/>
+ * Steps are explored depth first in the order they were added, which matches the order of the resulting alternate flow
+ * graphs of a recursive exploration. The amount of retained partially transformed transpose flow graphs is bounded by
+ * the capacity of the queue: Steps that exceed the capacity are stored in their compact form and restart their state
+ * when they are explored. The queue is not thread-safe, as each exploration uses its own queue
+ */
+final class ExplorationQueue {
+    private final int capacity;
+    private final Deque<ExplorationStep> steps;
+    private int retainedFlowGraphs;
+
+    /**
+     * Creates a new empty {@link ExplorationQueue} with the given capacity
+     * @param capacity Maximum amount of partially transformed transpose flow graphs that are retained by the queue
+     */
+    ExplorationQueue(int capacity) {
+        this.capacity = capacity;
+        this.steps = new ArrayDeque<>();
+        this.retainedFlowGraphs = 0;
+    }
+
+    /**
+     * Adds the given steps to the queue, such that they are explored before any previously added step and in the given
+     * order. If the capacity is exceeded, the steps that are explored last are stored in their compact form
+     * @param steps Steps that should be explored next
+     */
+    void addAll(List<ExplorationStep> steps) {
+        List<ExplorationStep> addedSteps = new ArrayList<>(steps.size());
+        for (ExplorationStep step : steps) {
+            if (step.transposeFlowGraph()
+                    .isPresent()) {
+                if (this.retainedFlowGraphs < this.capacity) {
+                    this.retainedFlowGraphs++;
+                } else {
+                    step = step.compact();
+                }
+            }
+            addedSteps.add(step);
+        }
+        for (int i = addedSteps.size() - 1; i >= 0; i--) {
+            this.steps.push(addedSteps.get(i));
+        }
+    }
+
+    /**
+     * Removes the next step from the queue
+     * @return Returns the next step that should be explored
+     */
+    ExplorationStep poll() {
+        ExplorationStep step = this.steps.pop();
+        if (step.transposeFlowGraph()
+                .isPresent()) {
+            this.retainedFlowGraphs--;
+        }
+        return step;
+    }
+
+    /**
+     * Returns whether the queue contains no more steps
+     * @return Returns true, if all steps have been explored. Otherwise, the method returns false
+     */
+    boolean isEmpty() {
+        return this.steps.isEmpty();
+    }
+}
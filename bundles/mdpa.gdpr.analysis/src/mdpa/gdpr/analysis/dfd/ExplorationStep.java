@@ -0,0 +1,32 @@
+package mdpa.gdpr.analysis.dfd;
+
+import java.util.Optional;
+import mdpa.gdpr.analysis.core.ContextAttributeState;
+
+/**
+ * Represents a pending step in the exploration of the alternate flow graphs of a {@link ContextAttributeState}.
+ * <p/>
+ * A step either resumes from a partially transformed transpose flow graph, to which the scenarios of the state before
+ * the given index have already been applied, or restarts the state from the original transpose flow graph
+ * @param transposeFlowGraph Optional partially transformed transpose flow graph. If empty, the state is restarted
+ * @param state {@link ContextAttributeState} that is explored
+ * @param nextScenario Index of the next scenario of the state that should be applied
+ */
+record ExplorationStep(Optional<DFDGDPRTransposeFlowGraph> transposeFlowGraph, ContextAttributeState state, int nextScenario) {
+    /**
+     * Creates a step that explores the given state from the original transpose flow graph
+     * @param state {@link ContextAttributeState} that is explored
+     * @return Returns a new step restarting the given state
+     */
+    static ExplorationStep restart(ContextAttributeState state) {
+        return new ExplorationStep(Optional.empty(), state, 0);
+    }
+
+    /**
+     * Returns a compact version of this step that does not retain the partially transformed transpose flow graph
+     * @return Returns a step restarting the state of this step
+     */
+    ExplorationStep compact() {
+        return ExplorationStep.restart(this.state);
+    }
+}
@@ -0,0 +1,54 @@
+package mdpa.gdpr.analysis.dfd;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import mdpa.gdpr.analysis.core.TransformationManager;
+import mdpa.gdpr.metamodel.GDPR.AbstractGDPRElement;
+import org.dataflowanalysis.analysis.dfd.core.DFDVertex;
+
+/**
+ * Identifies a complete transpose flow graph by the GDPR elements of its vertices and the flows between them.
+ * <p/>
+ * In contrast to the nodes of the data flow diagram, the GDPR elements are retained when the GDPR model is transformed
+ * again. Therefore, the key identifies the same transpose flow graph across multiple transformations of the same model
+ * @param sink GDPR element of the sink of the transpose flow graph
+ * @param elements GDPR elements of all vertices
+ * @param flows Pairs of predecessor and successor GDPR elements
+ */
+record FlowGraphKey(AbstractGDPRElement sink, Set<AbstractGDPRElement> elements, Set<List<AbstractGDPRElement>> flows) {
+    /**
+     * Creates the key of the given transpose flow graph
+     * @param transposeFlowGraph Complete transpose flow graph of which the key should be created
+     * @param transformationManager {@link TransformationManager} containing the trace of the transformation that created
+     * the transpose flow graph
+     * @return Returns the key of the transpose flow graph
+     */
+    static FlowGraphKey of(DFDGDPRTransposeFlowGraph transposeFlowGraph, TransformationManager transformationManager) {
+        Set<AbstractGDPRElement> elements = new HashSet<>();
+        Set<List<AbstractGDPRElement>> flows = new HashSet<>();
+        for (DFDVertex vertex : transposeFlowGraph.getVertices()
+                .stream()
+                .filter(DFDVertex.class::isInstance)
+                .map(DFDVertex.class::cast)
+                .toList()) {
+            AbstractGDPRElement element = getElement(vertex, transformationManager);
+            elements.add(element);
+            vertex.getPinDFDVertexMap()
+                    .values()
+                    .forEach(predecessor -> flows.add(List.of(getElement(predecessor, transformationManager), element)));
+        }
+        return new FlowGraphKey(getElement((DFDVertex) transposeFlowGraph.getSink(), transformationManager), elements, flows);
+    }
+
+    /**
+     * Returns the GDPR element that was transformed into the node of the given vertex
+     * @param vertex Vertex of the transpose flow graph
+     * @param transformationManager {@link TransformationManager} containing the trace of the transformation
+     * @return Returns the GDPR element of the vertex
+     */
+    private static AbstractGDPRElement getElement(DFDVertex vertex, TransformationManager transformationManager) {
+        return transformationManager.getElement(vertex.getReferencedElement())
+                .orElseThrow();
+    }
+}
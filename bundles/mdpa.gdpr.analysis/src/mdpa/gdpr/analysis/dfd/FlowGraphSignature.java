@@ -0,0 +1,116 @@
+package mdpa.gdpr.analysis.dfd;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import mdpa.gdpr.analysis.core.ContextDependentAttributeScenario;
+import org.dataflowanalysis.dfd.datadictionary.AbstractAssignment;
+import org.dataflowanalysis.dfd.datadictionary.Assignment;
+import org.dataflowanalysis.dfd.datadictionary.Label;
+import org.dataflowanalysis.dfd.dataflowdiagram.Node;
+
+/**
+ * Canonical representation of the structure of a {@link DFDGDPRTransposeFlowGraph} that is used to detect alternate
+ * flow graphs that are identical, even though they were created for different
+ * {@link mdpa.gdpr.analysis.core.ContextAttributeState}s.
+ * <p/>
+ * The signature consists of the following for each vertex, ordered by the id of the referenced node:
+ * - The id and name of the referenced node
+ * - The ids of the predecessors at each input pin
+ * - The labels applied by the node properties and the assignments of the node behavior
+ * - The context dependent attribute scenarios applied to the vertex
+ * <p/>
+ * Two transpose flow graphs with equal signatures produce the same result when they are evaluated. Labels and scenarios
+ * are compared by identity, so signatures are only comparable within the same analysis
+ */
+public final class FlowGraphSignature {
+    private final List<VertexSignature> vertices;
+    private final int hashCode;
+
+    /**
+     * Creates the signature of the given transpose flow graph
+     * @param transposeFlowGraph Transpose flow graph of which the signature should be created
+     */
+    FlowGraphSignature(DFDGDPRTransposeFlowGraph transposeFlowGraph) {
+        this.vertices = transposeFlowGraph.getVertices()
+                .stream()
+                .filter(DFDGDPRVertex.class::isInstance)
+                .map(DFDGDPRVertex.class::cast)
+                .map(VertexSignature::of)
+                .sorted(Comparator.comparing(VertexSignature::id)
+                        .thenComparing(VertexSignature::name))
+                .toList();
+        this.hashCode = this.vertices.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof FlowGraphSignature signature)) {
+            return false;
+        }
+        return this.hashCode == signature.hashCode && this.vertices.equals(signature.vertices);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    /**
+     * Signature of a single vertex
+     * @param id Id of the referenced node
+     * @param name Name of the referenced node
+     * @param predecessors Pairs of input pin id and predecessor node id
+     * @param labels Labels applied by the node
+     * @param scenarios Scenarios applied to the vertex
+     */
+    private record VertexSignature(String id, String name, Set<List<String>> predecessors, Set<AppliedLabel> labels,
+            Set<ContextDependentAttributeScenario> scenarios) {
+        /**
+         * Creates the signature of the given vertex
+         * @param vertex Vertex of which the signature should be created
+         * @return Returns the signature of the vertex
+         */
+        private static VertexSignature of(DFDGDPRVertex vertex) {
+            Node node = vertex.getReferencedElement();
+            Set<List<String>> predecessors = vertex.getPinDFDVertexMap()
+                    .entrySet()
+                    .stream()
+                    .map(it -> List.of(it.getKey()
+                            .getId(),
+                            it.getValue()
+                                    .getReferencedElement()
+                                    .getId()))
+                    .collect(Collectors.toSet());
+            Set<AppliedLabel> labels = new HashSet<>();
+            node.getProperties()
+                    .forEach(label -> labels.add(new AppliedLabel(null, label)));
+            if (node.getBehavior() != null) {
+                for (AbstractAssignment assignment : node.getBehavior()
+                        .getAssignment()) {
+                    if (assignment instanceof Assignment labelAssignment) {
+                        String pinId = labelAssignment.getOutputPin() == null ? null
+                                : labelAssignment.getOutputPin()
+                                        .getId();
+                        labelAssignment.getOutputLabels()
+                                .forEach(label -> labels.add(new AppliedLabel(pinId, label)));
+                    }
+                }
+            }
+            return new VertexSignature(node.getId(), node.getEntityName(), predecessors, labels, Set.copyOf(vertex.getContextDependentAttributes()));
+        }
+    }
+
+    /**
+     * Label that is applied by a node
+     * @param pinId Id of the output pin the label is applied to or null, if the label is a property of the node
+     * @param label Applied label
+     */
+    private record AppliedLabel(String pinId, Label label) {
+    }
+}
@@ -0,0 +1,206 @@
+package mdpa.gdpr.analysis.dfd;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import mdpa.gdpr.analysis.core.ContextAttributeState;
+import org.dataflowanalysis.analysis.core.AbstractVertex;
+
+/**
+ * Result of evaluating all {@link ContextAttributeState}s of a {@link DFDGDPRTransposeFlowGraph} in one pass.
+ * <p/>
+ * The states are numbered in the order of the evaluated alternate flow graphs and sets of states are represented as
+ * {@link BitSet}s, where the i-th bit denotes the i-th state of {@link #getContextAttributeStates()}. Each distinct
+ * evaluated vertex is shared by all alternate flow graphs containing it and is annotated with the set of states in which
+ * it exists. As shared vertices have the same predecessors in all of these states, their labels hold in the whole set of
+ * states. Therefore, labels and constraints are checked once per distinct vertex instead of once per state
+ * @see DFDGDPRTransposeFlowGraph#evaluateStates(mdpa.gdpr.analysis.core.ContextAttributeStateStatistics)
+ */
+public final class MultiStateEvaluation {
+    private final DFDGDPRTransposeFlowGraph transposeFlowGraph;
+    private final List<DFDGDPRTransposeFlowGraph> evaluatedFlowGraphs;
+    private final List<ContextAttributeState> states;
+    private final List<DFDGDPRVertex> vertices;
+    private final Map<DFDGDPRVertex, BitSet> vertexStates;
+
+    /**
+     * Creates a new {@link MultiStateEvaluation} of the given transpose flow graph and annotates the vertices of the given
+     * evaluated alternate flow graphs with their states
+     * @param transposeFlowGraph Transpose flow graph with unresolved context dependent attributes
+     * @param evaluatedFlowGraphs Evaluated alternate flow graphs of the transpose flow graph, which share their unaffected
+     * vertices
+     */
+    MultiStateEvaluation(DFDGDPRTransposeFlowGraph transposeFlowGraph, List<DFDGDPRTransposeFlowGraph> evaluatedFlowGraphs) {
+        this.transposeFlowGraph = transposeFlowGraph;
+        this.evaluatedFlowGraphs = List.copyOf(evaluatedFlowGraphs);
+        this.states = new ArrayList<>();
+        this.vertices = new ArrayList<>();
+        this.vertexStates = new IdentityHashMap<>();
+        for (DFDGDPRTransposeFlowGraph evaluatedFlowGraph : this.evaluatedFlowGraphs) {
+            int firstState = this.states.size();
+            this.states.addAll(evaluatedFlowGraph.getContextAttributeStates());
+            for (AbstractVertex<?> vertex : evaluatedFlowGraph.getVertices()) {
+                if (!(vertex instanceof DFDGDPRVertex dfdVertex)) {
+                    continue;
+                }
+                BitSet states = this.vertexStates.get(dfdVertex);
+                if (states == null) {
+                    states = new BitSet();
+                    this.vertexStates.put(dfdVertex, states);
+                    this.vertices.add(dfdVertex);
+                }
+                states.set(firstState, this.states.size());
+            }
+        }
+    }
+
+    /**
+     * Determines the states in which at least one vertex violates the given constraint
+     * @param constraint Constraint that is checked at each distinct vertex
+     * @return Returns the set of violating states
+     * @see #getContextAttributeStates(BitSet)
+     */
+    public BitSet findViolatingStates(Predicate<? super AbstractVertex<?>> constraint) {
+        return this.findStates(constraint);
+    }
+
+    /**
+     * Determines the union of the states of all distinct vertices fulfilling the given predicate
+     * @param predicate Predicate that is checked at each distinct vertex
+     * @return Returns the set of states in which at least one vertex fulfills the predicate
+     */
+    private BitSet findStates(Predicate<? super DFDGDPRVertex> predicate) {
+        BitSet states = new BitSet();
+        for (DFDGDPRVertex vertex : this.vertices) {
+            if (predicate.test(vertex)) {
+                states.or(this.vertexStates.get(vertex));
+            }
+        }
+        return states;
+    }
+
+    /**
+     * Determines whether the given vertex belongs to the node with the given id. Nodes cloned by a scenario keep the id of
+     * their original node
+     * @param vertex Evaluated vertex
+     * @param nodeId Id of the node of the data flow diagram
+     * @return Returns true, if the vertex references the node. Otherwise, the method returns false
+     */
+    private boolean isVertexOfNode(DFDGDPRVertex vertex, String nodeId) {
+        return vertex.getReferencedElement()
+                .getId()
+                .equals(nodeId);
+    }
+
+    /**
+     * Determines the distinct vertices that violate the given constraint. The states in which a vertex exists are returned
+     * by {@link #getStates(DFDGDPRVertex)}
+     * @param constraint Constraint that is checked at each distinct vertex
+     * @return Returns the violating vertices
+     */
+    public List<DFDGDPRVertex> findViolatingVertices(Predicate<? super AbstractVertex<?>> constraint) {
+        return this.vertices.stream()
+                .filter(constraint)
+                .toList();
+    }
+
+    /**
+     * Determines the states in which a vertex of the node with the given id has the given vertex characteristic
+     * @param nodeId Id of the node of the data flow diagram
+     * @param typeName Name of the characteristic type
+     * @param valueName Name of the characteristic value
+     * @return Returns the set of states in which the node has the characteristic
+     */
+    public BitSet getVertexCharacteristicStates(String nodeId, String typeName, String valueName) {
+        return this.findStates(vertex -> this.isVertexOfNode(vertex, nodeId) && vertex.getAllVertexCharacteristics()
+                .stream()
+                .anyMatch(it -> it.getTypeName()
+                        .equals(typeName)
+                        && it.getValueName()
+                                .equals(valueName)));
+    }
+
+    /**
+     * Determines the states in which the given variable has the given data characteristic at a vertex of the node with the
+     * given id
+     * @param nodeId Id of the node of the data flow diagram
+     * @param variableName Name of the variable flowing into the node
+     * @param typeName Name of the characteristic type
+     * @param valueName Name of the characteristic value
+     * @return Returns the set of states in which the variable has the characteristic at the node
+     */
+    public BitSet getDataCharacteristicStates(String nodeId, String variableName, String typeName, String valueName) {
+        return this.findStates(vertex -> this.isVertexOfNode(vertex, nodeId) && vertex.getAllDataCharacteristics()
+                .stream()
+                .filter(it -> it.getVariableName()
+                        .equals(variableName))
+                .flatMap(it -> it.getAllCharacteristics()
+                        .stream())
+                .anyMatch(it -> it.getTypeName()
+                        .equals(typeName)
+                        && it.getValueName()
+                                .equals(valueName)));
+    }
+
+    /**
+     * Returns the states in which the given vertex exists
+     * @param vertex Evaluated vertex
+     * @return Returns the set of states of the vertex, which is empty if the vertex was not evaluated
+     */
+    public BitSet getStates(DFDGDPRVertex vertex) {
+        BitSet states = this.vertexStates.get(vertex);
+        return states == null ? new BitSet() : (BitSet) states.clone();
+    }
+
+    /**
+     * Returns the {@link ContextAttributeState}s contained in the given set of states
+     * @param states Set of states
+     * @return Returns the states corresponding to the set bits
+     */
+    public List<ContextAttributeState> getContextAttributeStates(BitSet states) {
+        return states.stream()
+                .mapToObj(this.states::get)
+                .toList();
+    }
+
+    /**
+     * Returns all evaluated states, where the index of a state is its bit in the sets of states
+     * @return Returns an unmodifiable list of the evaluated states
+     */
+    public List<ContextAttributeState> getContextAttributeStates() {
+        return Collections.unmodifiableList(this.states);
+    }
+
+    /**
+     * Returns the distinct vertices of all evaluated alternate flow graphs
+     * @return Returns an unmodifiable list of the distinct evaluated vertices
+     */
+    public List<DFDGDPRVertex> getVertices() {
+        return Collections.unmodifiableList(this.vertices);
+    }
+
+    /**
+     * Returns the evaluated alternate flow graphs, which share their unaffected vertices
+     * @return Returns the evaluated alternate flow graphs
+     */
+    public List<DFDGDPRTransposeFlowGraph> getEvaluatedFlowGraphs() {
+        return this.evaluatedFlowGraphs;
+    }
+
+    /**
+     * Returns the transpose flow graph with unresolved context dependent attributes whose states were evaluated
+     * @return Returns the evaluated {@link DFDGDPRTransposeFlowGraph}
+     */
+    public DFDGDPRTransposeFlowGraph getTransposeFlowGraph() {
+        return this.transposeFlowGraph;
+    }
+
+    @Override
+    public String toString() {
+        return "Evaluated " + this.states.size() + " states with " + this.vertices.size() + " distinct vertices";
+    }
+}
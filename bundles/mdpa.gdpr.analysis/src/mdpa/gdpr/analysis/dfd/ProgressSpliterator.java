@@ -0,0 +1,74 @@
+package mdpa.gdpr.analysis.dfd;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import mdpa.gdpr.analysis.core.AnalysisProgress;
+import mdpa.gdpr.analysis.core.ContextAttributeState;
+import mdpa.gdpr.analysis.core.ContextAttributeStateStatistics;
+
+/**
+ * {@link Spliterator} that reserves each enumerated {@link ContextAttributeState} in the given {@link AnalysisProgress}
+ * before passing it on and stops as soon as the progress does not allow resolving further states.
+ * <p/>
+ * The progress is checked lazily when a state is reached. Therefore, the check stops sequential and parallel streams
+ * alike, without having to enumerate the remaining state space up front. Splits of the spliterator stop at their next
+ * state after the analysis was stopped.
+ * <p/>
+ * The wrapped spliterator counts each state as explored when it emits the state. A state that is refused by the progress
+ * is not resolved, so its count is withdrawn from the {@link ContextAttributeStateStatistics} again
+ */
+class ProgressSpliterator implements Spliterator<ContextAttributeState> {
+    private final Spliterator<ContextAttributeState> states;
+    private final AnalysisProgress progress;
+    private final ContextAttributeStateStatistics statistics;
+    private boolean stopped;
+
+    /**
+     * Creates a new {@link ProgressSpliterator} that enumerates the states of the given spliterator until the given
+     * progress stops the analysis
+     * @param states Spliterator enumerating the states
+     * @param progress {@link AnalysisProgress} in which each state is reserved
+     * @param statistics {@link ContextAttributeStateStatistics} the wrapped spliterator records the explored states in
+     */
+    ProgressSpliterator(Spliterator<ContextAttributeState> states, AnalysisProgress progress, ContextAttributeStateStatistics statistics) {
+        this.states = states;
+        this.progress = progress;
+        this.statistics = statistics;
+        this.stopped = false;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super ContextAttributeState> action) {
+        if (this.stopped) {
+            return false;
+        }
+        boolean advanced = this.states.tryAdvance(state -> {
+            if (this.progress.tryStartState()) {
+                action.accept(state);
+            } else {
+                this.statistics.recordExplored(-1);
+                this.stopped = true;
+            }
+        });
+        return advanced && !this.stopped;
+    }
+
+    @Override
+    public Spliterator<ContextAttributeState> trySplit() {
+        if (this.stopped) {
+            return null;
+        }
+        Spliterator<ContextAttributeState> prefix = this.states.trySplit();
+        return prefix == null ? null : new ProgressSpliterator(prefix, this.progress, this.statistics);
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.states.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return this.states.characteristics() & ~(SIZED | SUBSIZED);
+    }
+}
@@ -0,0 +1,119 @@
+package mdpa.gdpr.analysis.dfd;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import mdpa.gdpr.metamodel.GDPR.AbstractGDPRElement;
+import mdpa.gdpr.metamodel.GDPR.Data;
+import mdpa.gdpr.metamodel.GDPR.LegalBasis;
+import mdpa.gdpr.metamodel.GDPR.Processing;
+import mdpa.gdpr.metamodel.GDPR.Purpose;
+import mdpa.gdpr.metamodel.GDPR.Role;
+
+/**
+ * Immutable set of the {@link AbstractGDPRElement}s that are related to a {@link DFDGDPRVertex}.
+ * <p/>
+ * Membership is determined by identity in constant time. Additionally, the related elements are bucketed by their type
+ * once at construction. As the related elements never change, one instance is shared between a vertex and all of its
+ * copies
+ */
+public final class RelatedElements {
+    private final List<AbstractGDPRElement> elements;
+    private final Set<AbstractGDPRElement> elementSet;
+    private final List<Data> data;
+    private final List<Purpose> purposes;
+    private final List<LegalBasis> legalBases;
+    private final boolean hasProcessing;
+    private final Role responsibilityRole;
+
+    /**
+     * Creates a new {@link RelatedElements} containing the given elements
+     * @param elements Elements related to a vertex in the order they were determined
+     */
+    public RelatedElements(List<AbstractGDPRElement> elements) {
+        this.elements = Collections.unmodifiableList(new ArrayList<>(elements));
+        Set<AbstractGDPRElement> elementSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        elementSet.addAll(elements);
+        this.elementSet = Collections.unmodifiableSet(elementSet);
+        this.data = this.filter(Data.class);
+        this.purposes = this.filter(Purpose.class);
+        this.legalBases = this.filter(LegalBasis.class);
+        List<Processing> processings = this.filter(Processing.class);
+        this.hasProcessing = !processings.isEmpty();
+        this.responsibilityRole = this.hasProcessing ? processings.get(0)
+                .getResponsible() : null;
+    }
+
+    /**
+     * Returns all related elements of the given type
+     * @param type Type of the related elements
+     * @param <T> Type of the related elements
+     * @return Returns an unmodifiable list of related elements of the given type
+     */
+    private <T> List<T> filter(Class<T> type) {
+        return this.elements.stream()
+                .filter(type::isInstance)
+                .map(type::cast)
+                .toList();
+    }
+
+    /**
+     * Determines whether the given element is related to the vertex
+     * @param element Element that is checked
+     * @return Returns true, if the given element is contained. Otherwise, the method returns false
+     */
+    public boolean contains(Object element) {
+        return this.elementSet.contains(element);
+    }
+
+    /**
+     * Returns the related elements in the order they were determined
+     * @return Returns an unmodifiable list of the related elements
+     */
+    public List<AbstractGDPRElement> asList() {
+        return this.elements;
+    }
+
+    /**
+     * Returns the related {@link Data} elements
+     * @return Returns an unmodifiable list of the related data
+     */
+    public List<Data> getData() {
+        return this.data;
+    }
+
+    /**
+     * Returns the related {@link Purpose} elements
+     * @return Returns an unmodifiable list of the related purposes
+     */
+    public List<Purpose> getPurposes() {
+        return this.purposes;
+    }
+
+    /**
+     * Returns the related {@link LegalBasis} elements
+     * @return Returns an unmodifiable list of the related legal bases
+     */
+    public List<LegalBasis> getLegalBases() {
+        return this.legalBases;
+    }
+
+    /**
+     * Returns whether the vertex relates to a {@link Processing} element
+     * @return Returns true, if a processing is related. Otherwise, the method returns false
+     */
+    public boolean hasProcessing() {
+        return this.hasProcessing;
+    }
+
+    /**
+     * Returns the responsible {@link Role} of the first related {@link Processing}
+     * @return Returns the responsible role, which may be null if the processing has no responsible role or no processing
+     * is related
+     */
+    public Role getResponsibilityRole() {
+        return this.responsibilityRole;
+    }
+}
@@ -0,0 +1,60 @@
+package mdpa.gdpr.analysis.dfd;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * Guards model elements that are shared between multiple {@link DFDGDPRTransposeFlowGraph}s against modification.
+ * <p/>
+ * While the guard is attached, any change to a guarded element or its contents results in an
+ * {@link IllegalStateException} in the modifying thread. This ensures that shared EMF objects, like the data dictionary
+ * or the referenced nodes, are only read while flow graphs are evaluated concurrently.
+ * <p/>
+ * Attaching the guard also ensures that the adapter lists of the guarded elements exist before they are read
+ * concurrently
+ */
+class SharedModelGuard extends EContentAdapter {
+    private final Set<Notifier> guardedElements;
+
+    /**
+     * Creates a new {@link SharedModelGuard} that does not guard any elements
+     */
+    SharedModelGuard() {
+        this.guardedElements = Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Attaches the guard to the given element and all of its contents. Elements that are already guarded are ignored
+     * @param element Element that should be guarded
+     */
+    void attach(Notifier element) {
+        if (element != null && this.guardedElements.add(element)) {
+            element.eAdapters()
+                    .add(this);
+        }
+    }
+
+    /**
+     * Detaches the guard from all guarded elements
+     */
+    void detach() {
+        List<Notifier> elements = new ArrayList<>(this.guardedElements);
+        this.guardedElements.clear();
+        elements.forEach(it -> it.eAdapters()
+                .remove(this));
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        if (notification.isTouch() || notification.getEventType() == Notification.REMOVING_ADAPTER) {
+            return;
+        }
+        throw new IllegalStateException("Shared model element " + notification.getNotifier() + " was modified during parallel evaluation");
+    }
+}
@@ -0,0 +1,83 @@
+package mdpa.gdpr.analysis.dfd;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import mdpa.gdpr.metamodel.GDPR.AbstractGDPRElement;
+import org.dataflowanalysis.analysis.core.AbstractVertex;
+import org.dataflowanalysis.dfd.dataflowdiagram.Node;
+
+/**
+ * Index over the vertices of a single {@link DFDGDPRTransposeFlowGraph}. It allows finding the vertex of a node by its
+ * id and finding all vertices that relate to a given {@link AbstractGDPRElement} in constant time.
+ * <p/>
+ * The index is immutable, as the vertices of a transpose flow graph are not changed after its creation. All lists
+ * returned by the index keep the order of the vertices in the transpose flow graph
+ */
+final class VertexIndex {
+    private final Map<String, List<DFDGDPRVertex>> verticesById;
+    private final Map<AbstractGDPRElement, List<DFDGDPRVertex>> verticesByRelatedElement;
+
+    /**
+     * Creates a new {@link VertexIndex} over the given vertices. Vertices that are not {@link DFDGDPRVertex}s are ignored
+     * @param vertices Vertices of the transpose flow graph
+     */
+    VertexIndex(List<? extends AbstractVertex<?>> vertices) {
+        this.verticesById = new HashMap<>();
+        this.verticesByRelatedElement = new IdentityHashMap<>();
+        for (AbstractVertex<?> vertex : vertices) {
+            if (!(vertex instanceof DFDGDPRVertex gdprVertex)) {
+                continue;
+            }
+            this.verticesById.computeIfAbsent(gdprVertex.getReferencedElement()
+                    .getId(), it -> new ArrayList<>())
+                    .add(gdprVertex);
+            for (AbstractGDPRElement relatedElement : gdprVertex.getRelatedElements()) {
+                List<DFDGDPRVertex> relatedVertices = this.verticesByRelatedElement.computeIfAbsent(relatedElement, it -> new ArrayList<>());
+                if (relatedVertices.isEmpty() || relatedVertices.get(relatedVertices.size() - 1) != gdprVertex) {
+                    relatedVertices.add(gdprVertex);
+                }
+            }
+        }
+        this.verticesById.replaceAll((id, it) -> List.copyOf(it));
+        this.verticesByRelatedElement.replaceAll((element, it) -> List.copyOf(it));
+    }
+
+    /**
+     * Finds the vertex referencing a node with the given id
+     * @param id Id of the referenced node
+     * @return Returns the first vertex that references a node with the given id, if one exists
+     */
+    Optional<DFDGDPRVertex> findVertex(String id) {
+        return this.verticesById.getOrDefault(id, List.of())
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Finds the vertex that references a node with the same id and entity name as the given node. The referenced node
+     * does not need to be identical, as alternate flow graphs reference copies of the original nodes
+     * @param node Node that should be matched
+     * @return Returns the vertex that references a node matching the given node, if one exists
+     */
+    Optional<DFDGDPRVertex> findVertex(Node node) {
+        return this.verticesById.getOrDefault(node.getId(), List.of())
+                .stream()
+                .filter(it -> it.getReferencedElement()
+                        .getEntityName()
+                        .equals(node.getEntityName()))
+                .findAny();
+    }
+
+    /**
+     * Returns all vertices that contain the given element in their related elements
+     * @param element GDPR element that should be related to the vertices
+     * @return Returns an unmodifiable list of vertices relating to the given element
+     */
+    List<DFDGDPRVertex> getRelatedVertices(AbstractGDPRElement element) {
+        return this.verticesByRelatedElement.getOrDefault(element, List.of());
+    }
+}
@@ -0,0 +1,44 @@
+package mdpa.gdpr.analysis.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+
+/**
+ * Base class of the Java Flight Recorder events emitted by the {@link mdpa.gdpr.analysis.GDPRLegalAssessmentAnalysis}.
+ * <p/>
+ * Events are only committed, if they are enabled in the running recording. The fields of an event should therefore only
+ * be computed after {@link #shouldCommit()} returned true
+ */
+@Category({"GDPR Analysis"})
+public abstract class AnalysisEvent extends Event {
+    @Label("Model")
+    protected String modelName;
+
+    /**
+     * Sets the name of the model containing the given element, which is the file name of its resource without extension
+     * @param element Element of the analyzed model
+     */
+    protected void setModel(EObject element) {
+        this.modelName = getModelName(element);
+    }
+
+    /**
+     * Determines the name of the model containing the given element
+     * @param element Element of a model
+     * @return Returns the file name of the resource of the element without extension. If the element is not contained in
+     * a resource, an empty string is returned
+     */
+    static String getModelName(EObject element) {
+        Resource resource = element == null ? null : element.eResource();
+        if (resource == null || resource.getURI() == null) {
+            return "";
+        }
+        URI uri = resource.getURI()
+                .trimFileExtension();
+        return uri.lastSegment() == null ? uri.toString() : uri.lastSegment();
+    }
+}
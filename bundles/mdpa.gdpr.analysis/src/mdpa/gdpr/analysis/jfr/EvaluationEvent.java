@@ -0,0 +1,27 @@
+package mdpa.gdpr.analysis.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import mdpa.gdpr.analysis.dfd.DFDGDPRTransposeFlowGraph;
+
+/**
+ * Java Flight Recorder event emitted for the evaluation of the data flow of one alternate flow graph
+ */
+@Name("mdpa.gdpr.analysis.Evaluation")
+@Label("Evaluation")
+@Description("Evaluation of the data flow of an alternate flow graph")
+public class EvaluationEvent extends FlowGraphEvent {
+    /**
+     * Ends the event and commits it for the given evaluated transpose flow graph, if the event is enabled
+     * @param transposeFlowGraph Transpose flow graph that was evaluated
+     */
+    public void commit(DFDGDPRTransposeFlowGraph transposeFlowGraph) {
+        this.end();
+        if (!this.shouldCommit()) {
+            return;
+        }
+        this.describe(transposeFlowGraph);
+        this.commit();
+    }
+}
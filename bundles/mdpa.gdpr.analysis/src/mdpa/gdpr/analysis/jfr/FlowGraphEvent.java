@@ -0,0 +1,45 @@
+package mdpa.gdpr.analysis.jfr;
+
+import jdk.jfr.Label;
+import mdpa.gdpr.analysis.core.ContextAttributeState;
+import mdpa.gdpr.analysis.dfd.DFDGDPRTransposeFlowGraph;
+import mdpa.gdpr.analysis.dfd.DFDGDPRVertex;
+import org.dataflowanalysis.analysis.dfd.core.DFDVertex;
+
+/**
+ * Base class of the Java Flight Recorder events that concern a single {@link DFDGDPRTransposeFlowGraph}. The events
+ * identify the flow graph by the id of its sink and the {@link ContextAttributeState} it was resolved for
+ */
+public abstract class FlowGraphEvent extends AnalysisEvent {
+    @Label("Sink")
+    protected String sinkId;
+
+    @Label("State")
+    protected String state;
+
+    @Label("Vertices")
+    protected int vertexCount;
+
+    /**
+     * Sets the model, sink, state and amount of vertices of the event to the ones of the given transpose flow graph
+     * @param transposeFlowGraph Transpose flow graph the event concerns
+     */
+    protected void describe(DFDGDPRTransposeFlowGraph transposeFlowGraph) {
+        if (transposeFlowGraph.getSink() instanceof DFDVertex sink) {
+            this.sinkId = sink.getReferencedElement()
+                    .getId();
+        }
+        if (transposeFlowGraph.getSink() instanceof DFDGDPRVertex sink && !sink.getRelatedElements()
+                .isEmpty()) {
+            this.setModel(sink.getRelatedElements()
+                    .get(0));
+        }
+        this.state = transposeFlowGraph.getContextAttributeStates()
+                .stream()
+                .findFirst()
+                .map(ContextAttributeState::toString)
+                .orElse("");
+        this.vertexCount = transposeFlowGraph.getVertices()
+                .size();
+    }
+}
@@ -0,0 +1,38 @@
+package mdpa.gdpr.analysis.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import mdpa.gdpr.analysis.dfd.DFDGDPRTransposeFlowGraph;
+
+/**
+ * Java Flight Recorder event emitted for the resolution of all states of one transpose flow graph. If the alternate flow
+ * graphs are evaluated while they are resolved, the event includes their evaluation
+ */
+@Name("mdpa.gdpr.analysis.FlowGraphResolution")
+@Label("Flow Graph Resolution")
+@Description("Resolution of the context dependent attributes of a transpose flow graph")
+public class FlowGraphResolutionEvent extends FlowGraphEvent {
+    @Label("Context Dependent Attributes")
+    private int contextDependentAttributeCount;
+
+    @Label("Alternate Flow Graphs")
+    private int alternateFlowGraphCount;
+
+    /**
+     * Ends the event and commits it for the given transpose flow graph, if the event is enabled
+     * @param transposeFlowGraph Transpose flow graph that was resolved
+     * @param alternateFlowGraphCount Amount of alternate flow graphs that were produced
+     */
+    public void commit(DFDGDPRTransposeFlowGraph transposeFlowGraph, int alternateFlowGraphCount) {
+        this.end();
+        if (!this.shouldCommit()) {
+            return;
+        }
+        this.describe(transposeFlowGraph);
+        this.contextDependentAttributeCount = transposeFlowGraph.getContextDependentAttributeSources()
+                .size();
+        this.alternateFlowGraphCount = alternateFlowGraphCount;
+        this.commit();
+    }
+}
@@ -0,0 +1,32 @@
+package mdpa.gdpr.analysis.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import mdpa.gdpr.analysis.dfd.DFDGDPRTransposeFlowGraph;
+
+/**
+ * Java Flight Recorder event emitted for checking a constraint on the vertices of one evaluated alternate flow graph
+ */
+@Name("mdpa.gdpr.analysis.Query")
+@Label("Query")
+@Description("Query of a constraint on an evaluated alternate flow graph")
+public class QueryEvent extends FlowGraphEvent {
+    @Label("Violations")
+    private int violationCount;
+
+    /**
+     * Ends the event and commits it for the given queried transpose flow graph, if the event is enabled
+     * @param transposeFlowGraph Transpose flow graph that was queried
+     * @param violationCount Amount of vertices violating the constraint
+     */
+    public void commit(DFDGDPRTransposeFlowGraph transposeFlowGraph, int violationCount) {
+        this.end();
+        if (!this.shouldCommit()) {
+            return;
+        }
+        this.describe(transposeFlowGraph);
+        this.violationCount = violationCount;
+        this.commit();
+    }
+}
@@ -0,0 +1,47 @@
+package mdpa.gdpr.analysis.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import mdpa.gdpr.analysis.core.ContextAttributeState;
+import mdpa.gdpr.analysis.dfd.DFDGDPRTransposeFlowGraph;
+
+/**
+ * Java Flight Recorder event emitted for the application of the scenarios of one {@link ContextAttributeState} to a
+ * transpose flow graph
+ */
+@Name("mdpa.gdpr.analysis.ScenarioApplication")
+@Label("Scenario Application")
+@Description("Application of the scenarios of a state to a transpose flow graph")
+public class ScenarioApplicationEvent extends FlowGraphEvent {
+    @Label("Scenarios")
+    private int scenarioCount;
+
+    @Label("Alternate Flow Graphs")
+    private int alternateFlowGraphCount;
+
+    @Label("Uncertainty Branches")
+    private int uncertaintyBranchCount;
+
+    /**
+     * Ends the event and commits it for the given transpose flow graph and state, if the event is enabled
+     * @param transposeFlowGraph Transpose flow graph the scenarios were applied to
+     * @param state State of which the scenarios were applied
+     * @param alternateFlowGraphCount Amount of alternate flow graphs that were produced
+     * @param uncertaintyBranchCount Amount of additional states that were explored due to uncertainty
+     */
+    public void commit(DFDGDPRTransposeFlowGraph transposeFlowGraph, ContextAttributeState state, int alternateFlowGraphCount,
+            int uncertaintyBranchCount) {
+        this.end();
+        if (!this.shouldCommit()) {
+            return;
+        }
+        this.describe(transposeFlowGraph);
+        this.state = state.toString();
+        this.scenarioCount = state.selectedScenarios()
+                .size();
+        this.alternateFlowGraphCount = alternateFlowGraphCount;
+        this.uncertaintyBranchCount = uncertaintyBranchCount;
+        this.commit();
+    }
+}
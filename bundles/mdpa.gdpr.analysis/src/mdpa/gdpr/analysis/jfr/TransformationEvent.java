@@ -0,0 +1,53 @@
+package mdpa.gdpr.analysis.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import mdpa.gdpr.analysis.resource.DataFlowDiagramAndDataDictionary;
+import mdpa.gdpr.metamodel.GDPR.LegalAssessmentFacts;
+
+/**
+ * Java Flight Recorder event emitted for each transformation of a GDPR model into a data flow diagram by the
+ * {@link mdpa.gdpr.analysis.core.TransformationManager}
+ */
+@Name("mdpa.gdpr.analysis.Transformation")
+@Label("Transformation")
+@Description("Transformation of a GDPR model into a data flow diagram")
+public class TransformationEvent extends AnalysisEvent {
+    @Label("Nodes")
+    private int nodeCount;
+
+    @Label("Flows")
+    private int flowCount;
+
+    @Label("Context Dependent Attributes")
+    private int contextDependentAttributeCount;
+
+    @Label("Cached")
+    private boolean cached;
+
+    /**
+     * Ends the event and commits it with the given transformation result, if the event is enabled
+     * @param gdprModel GDPR model that was transformed
+     * @param result Data flow diagram and data dictionary produced by the transformation
+     * @param contextDependentAttributeCount Amount of context dependent attribute sources found by the transformation
+     * @param cached Whether the result was loaded from the transformation cache
+     */
+    public void commit(LegalAssessmentFacts gdprModel, DataFlowDiagramAndDataDictionary result, int contextDependentAttributeCount,
+            boolean cached) {
+        this.end();
+        if (!this.shouldCommit()) {
+            return;
+        }
+        this.setModel(gdprModel);
+        this.nodeCount = result.dataFlowDiagram()
+                .getNodes()
+                .size();
+        this.flowCount = result.dataFlowDiagram()
+                .getFlows()
+                .size();
+        this.contextDependentAttributeCount = contextDependentAttributeCount;
+        this.cached = cached;
+        this.commit();
+    }
+}
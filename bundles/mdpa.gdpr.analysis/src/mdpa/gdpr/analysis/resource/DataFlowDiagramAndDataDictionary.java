@@ -1,17 +1,22 @@
 package mdpa.gdpr.analysis.resource;
 
 import org.dataflowanalysis.dfd.datadictionary.DataDictionary;
+import org.dataflowanalysis.dfd.datadictionary.datadictionaryPackage;
 import org.dataflowanalysis.dfd.dataflowdiagram.DataFlowDiagram;
+import org.dataflowanalysis.dfd.dataflowdiagram.dataflowdiagramPackage;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.ecore.xmi.XMLResource;
 import org.eclipse.emf.ecore.xmi.impl.XMLResourceFactoryImpl;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Contains a full metamodel required to run a DFD-based
@@ -20,6 +25,15 @@ import java.util.Map;
  * @param dataDictionary Data Dictionary of the model
  */
 public record DataFlowDiagramAndDataDictionary(DataFlowDiagram dataFlowDiagram, DataDictionary dataDictionary) {
+    /**
+     * File extension of saved data flow diagrams
+     */
+    public static final String DATA_FLOW_DIAGRAM_EXTENSION = "dataflowdiagram";
+    /**
+     * File extension of saved data dictionaries
+     */
+    public static final String DATA_DICTIONARY_EXTENSION = "datadictionary";
+
     private Resource createResource(String outputFile, String[] fileExtensions, ResourceSet resourceSet) {
         for (String fileExtension : fileExtensions) {
             resourceSet.getResourceFactoryRegistry()
@@ -61,4 +75,84 @@ public record DataFlowDiagramAndDataDictionary(DataFlowDiagram dataFlowDiagram,
         saveResource(dfdResource);
         saveResource(ddResource);
     }
+
+    /**
+     * Saves the given {@link DataFlowDiagramAndDataDictionary} at the given file path with the given name in the given
+     * {@link ResourceFormat}. Both resources are saved concurrently. The saved files can be loaded again with
+     * {@link #load(String, String)}
+     * @param filePath File path the {@link DataFlowDiagramAndDataDictionary} should be saved at
+     * @param fileName File name (without extension) that the files should have
+     * @param format Format the files should be stored in
+     */
+    public void save(String filePath, String fileName, ResourceFormat format) {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Path basePath = Path.of(filePath, fileName)
+                .toAbsolutePath()
+                .normalize();
+
+        Resource dfdResource = format.createResource(URI.createFileURI(basePath + "." + DATA_FLOW_DIAGRAM_EXTENSION));
+        Resource ddResource = format.createResource(URI.createFileURI(basePath + "." + DATA_DICTIONARY_EXTENSION));
+        resourceSet.getResources()
+                .add(dfdResource);
+        resourceSet.getResources()
+                .add(ddResource);
+
+        dfdResource.getContents()
+                .add(dataFlowDiagram);
+        ddResource.getContents()
+                .add(dataDictionary);
+
+        CompletableFuture<Void> ddSave = CompletableFuture.runAsync(() -> saveResource(ddResource, format));
+        saveResource(dfdResource, format);
+        try {
+            ddSave.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static void saveResource(Resource resource, ResourceFormat format) {
+        try {
+            resource.save(format.getSaveOptions());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Loads a {@link DataFlowDiagramAndDataDictionary} that was saved at the given file path with the given name. The
+     * {@link ResourceFormat} of the files is detected automatically
+     * @param filePath File path the {@link DataFlowDiagramAndDataDictionary} was saved at
+     * @param fileName File name (without extension) of the saved files
+     * @return Returns the loaded {@link DataFlowDiagramAndDataDictionary}
+     */
+    public static DataFlowDiagramAndDataDictionary load(String filePath, String fileName) {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource.Factory resourceFactory = ResourceFormat.createDetectingFactory(resourceSet.getURIConverter());
+        resourceSet.getPackageRegistry()
+                .put(dataflowdiagramPackage.eNS_URI, dataflowdiagramPackage.eINSTANCE);
+        resourceSet.getPackageRegistry()
+                .put(datadictionaryPackage.eNS_URI, datadictionaryPackage.eINSTANCE);
+        resourceSet.getResourceFactoryRegistry()
+                .getExtensionToFactoryMap()
+                .put(DATA_FLOW_DIAGRAM_EXTENSION, resourceFactory);
+        resourceSet.getResourceFactoryRegistry()
+                .getExtensionToFactoryMap()
+                .put(DATA_DICTIONARY_EXTENSION, resourceFactory);
+        resourceSet.getLoadOptions()
+                .putAll(ResourceFormat.getLoadOptions());
+        Path basePath = Path.of(filePath, fileName)
+                .toAbsolutePath()
+                .normalize();
+
+        Resource dfdResource = resourceSet.getResource(URI.createFileURI(basePath + "." + DATA_FLOW_DIAGRAM_EXTENSION), true);
+        Resource ddResource = resourceSet.getResource(URI.createFileURI(basePath + "." + DATA_DICTIONARY_EXTENSION), true);
+        EcoreUtil.resolveAll(resourceSet);
+        return new DataFlowDiagramAndDataDictionary((DataFlowDiagram) dfdResource.getContents()
+                .get(0), (DataDictionary) ddResource.getContents()
+                        .get(0));
+    }
 }
@@ -6,25 +6,33 @@ import mdpa.gdpr.metamodel.GDPR.LegalAssessmentFacts;
 import mdpa.gdpr.metamodel.contextproperties.ContextpropertiesPackage;
 import mdpa.gdpr.metamodel.contextproperties.ScopeDependentAssessmentFacts;
 import org.dataflowanalysis.analysis.resource.ResourceProvider;
-import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
+import org.eclipse.emf.ecore.resource.Resource;
 
 /**
  * A {@link ResourceProvider} providing the necessary resources to run a
  * {@link mdpa.gdpr.analysis.GDPRLegalAssessmentAnalysis}
  */
 public abstract class GDPRResourceProvider extends ResourceProvider {
+    /**
+     * Registers the GDPR and context property packages in the resource set of the provider. The models may be stored in
+     * any {@link ResourceFormat}, which is detected when they are loaded. The models are loaded with the
+     * {@link ResourceFormat#getLoadOptions() load options} of the resource formats
+     */
     @Override
     public void setupResources() {
+        Resource.Factory resourceFactory = ResourceFormat.createDetectingFactory(this.resources.getURIConverter());
         this.resources.getPackageRegistry()
                 .put(GDPRPackage.eNS_URI, GDPRPackage.eINSTANCE);
         this.resources.getResourceFactoryRegistry()
                 .getExtensionToFactoryMap()
-                .put(GDPRPackage.eNAME, new XMIResourceFactoryImpl());
+                .put(GDPRPackage.eNAME, resourceFactory);
         this.resources.getPackageRegistry()
                 .put(ContextpropertiesPackage.eNS_URI, ContextpropertiesPackage.eINSTANCE);
         this.resources.getResourceFactoryRegistry()
                 .getExtensionToFactoryMap()
-                .put(ContextpropertiesPackage.eNAME, new XMIResourceFactoryImpl());
+                .put(ContextpropertiesPackage.eNAME, resourceFactory);
+        this.resources.getLoadOptions()
+                .putAll(ResourceFormat.getLoadOptions());
     }
 
     /**
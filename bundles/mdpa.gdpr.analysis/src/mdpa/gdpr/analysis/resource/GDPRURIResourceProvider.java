@@ -1,12 +1,9 @@
 package mdpa.gdpr.analysis.resource;
 
-import java.util.ArrayList;
-import java.util.List;
 import mdpa.gdpr.analysis.core.TransformationManager;
 import mdpa.gdpr.metamodel.GDPR.LegalAssessmentFacts;
 import mdpa.gdpr.metamodel.contextproperties.ScopeDependentAssessmentFacts;
 import org.eclipse.emf.common.util.URI;
-import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 
 /**
@@ -28,21 +25,27 @@ public class GDPRURIResourceProvider extends GDPRResourceProvider {
      * @param propertyURI URI path to the context property model
      */
     public GDPRURIResourceProvider(URI modelURI, URI propertyURI) {
+        this(modelURI, propertyURI, new TransformationManager());
+    }
+
+    /**
+     * Creates a new {@link GDPRURIResourceProvider} using the provided URIs to the models and the given
+     * {@link TransformationManager}
+     * @param modelURI URI path to the GDPR model
+     * @param propertyURI URI path to the context property model
+     * @param transformationManager Transformation manager used to transform the GDPR model
+     */
+    public GDPRURIResourceProvider(URI modelURI, URI propertyURI, TransformationManager transformationManager) {
         this.modelURI = modelURI;
         this.propertyURI = propertyURI;
-        this.transformationManager = new TransformationManager();
+        this.transformationManager = transformationManager;
     }
 
     @Override
     public void loadRequiredResources() {
         this.model = (LegalAssessmentFacts) this.loadModelContent(modelURI);
         this.scopeDependentAssessmentFacts = (ScopeDependentAssessmentFacts) this.loadModelContent(propertyURI);
-        List<Resource> loadedResources;
-        do {
-            loadedResources = new ArrayList<>(this.resources.getResources());
-            loadedResources.forEach(EcoreUtil::resolveAll);
-        } while (loadedResources.size() != this.resources.getResources()
-                .size());
+        EcoreUtil.resolveAll(this.resources);
     }
 
     @Override
@@ -0,0 +1,127 @@
+package mdpa.gdpr.analysis.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.URIConverter;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+
+/**
+ * Serialization format of the models used by the analysis.
+ * <p/>
+ * Both formats use the same file extensions, so that references between the models remain valid after converting them.
+ * When a model is loaded, its format is detected from its content. See {@link #createDetectingFactory(URIConverter)} and
+ * {@link ResourceFormatConverter}
+ */
+public enum ResourceFormat {
+    /**
+     * XML Metadata Interchange, which is the default format of the modelling tools
+     */
+    XMI,
+    /**
+     * XML Metadata Interchange compressed into a zip archive, which produces considerably smaller files
+     */
+    ZIPPED_XMI,
+    /**
+     * Compact binary format of EMF, which is considerably faster to load and save
+     */
+    BINARY;
+
+    private static final int DETECTION_LENGTH = 64;
+    private static final int FLUSH_THRESHOLD = 1024 * 1024;
+    private static final String UTF8_BYTE_ORDER_MARK = "\u00EF\u00BB\u00BF";
+    private static final String ZIP_SIGNATURE = "PK\u0003\u0004";
+
+    /**
+     * Creates an empty resource with the given URI that is stored in this format
+     * @param uri URI of the resource
+     * @return Returns the created resource
+     */
+    public Resource createResource(URI uri) {
+        return switch (this) {
+            case XMI -> new XMIResourceImpl(uri);
+            case ZIPPED_XMI -> {
+                XMIResourceImpl resource = new XMIResourceImpl(uri);
+                resource.setUseZip(true);
+                yield resource;
+            }
+            case BINARY -> new BinaryResourceImpl(uri);
+        };
+    }
+
+    /**
+     * Returns the options that should be used when saving a resource in this format. XMI resources are streamed to the
+     * output in chunks instead of being built in memory completely
+     * @return Returns the save options
+     */
+    public Map<Object, Object> getSaveOptions() {
+        return switch (this) {
+            case XMI, ZIPPED_XMI -> Map.<Object, Object>of(XMLResource.OPTION_ENCODING, "UTF-8", XMLResource.OPTION_FLUSH_THRESHOLD,
+                    FLUSH_THRESHOLD);
+            case BINARY -> Map.<Object, Object>of();
+        };
+    }
+
+    /**
+     * Returns the options that should be used when loading resources of any format. The options speed up the parsing of
+     * XMI resources and are ignored by binary resources
+     * @return Returns the load options
+     */
+    public static Map<Object, Object> getLoadOptions() {
+        return Map.<Object, Object>of(XMLResource.OPTION_DEFER_IDREF_RESOLUTION, Boolean.TRUE, XMLResource.OPTION_USE_DEPRECATED_METHODS,
+                Boolean.FALSE, XMLResource.OPTION_USE_XML_NAME_TO_FEATURE_MAP, new HashMap<>());
+    }
+
+    /**
+     * Detects the format of the resource at the given URI from its first bytes. XMI resources start with an XML
+     * declaration or element, zipped XMI resources with the signature of a zip archive and binary resources with a binary
+     * signature
+     * @param uriConverter Converter used to open the resource
+     * @param uri URI of the resource
+     * @return Returns the format of the resource. If the resource does not exist or is empty, {@link #XMI} is returned
+     */
+    public static ResourceFormat detect(URIConverter uriConverter, URI uri) {
+        if (!uriConverter.exists(uri, Map.of())) {
+            return XMI;
+        }
+        try (InputStream inputStream = uriConverter.createInputStream(uri)) {
+            String header = new String(inputStream.readNBytes(DETECTION_LENGTH), StandardCharsets.ISO_8859_1);
+            String content = header.replace(UTF8_BYTE_ORDER_MARK, "")
+                    .strip();
+            if (content.isEmpty() || content.startsWith("<")) {
+                return XMI;
+            }
+            if (header.startsWith(ZIP_SIGNATURE)) {
+                return ZIPPED_XMI;
+            }
+            return BINARY;
+        } catch (IOException e) {
+            return XMI;
+        }
+    }
+
+    /**
+     * Creates a resource factory that creates resources in the format of the existing file at the given URI. New
+     * resources are created as {@link #XMI}
+     * @param uriConverter Converter used to open existing resources
+     * @return Returns a new format detecting resource factory
+     */
+    public static Resource.Factory createDetectingFactory(URIConverter uriConverter) {
+        return uri -> ResourceFormat.detect(uriConverter, uri)
+                .createResource(uri);
+    }
+
+    /**
+     * Creates a resource factory that always creates resources in this format
+     * @return Returns a new resource factory for this format
+     */
+    public Resource.Factory createFactory() {
+        return this::createResource;
+    }
+}
@@ -0,0 +1,169 @@
+package mdpa.gdpr.analysis.resource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import mdpa.gdpr.metamodel.GDPR.GDPRPackage;
+import mdpa.gdpr.metamodel.contextproperties.ContextpropertiesPackage;
+import org.apache.log4j.Logger;
+import org.dataflowanalysis.dfd.datadictionary.datadictionaryPackage;
+import org.dataflowanalysis.dfd.dataflowdiagram.dataflowdiagramPackage;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * Converts GDPR models, context property models, data flow diagrams and data dictionaries between the
+ * {@link ResourceFormat ResourceFormats}.
+ * <p/>
+ * Models referencing each other should be converted together, so that all references are resolved before the models are
+ * saved. The converted models keep their file names, therefore references between them remain valid in the target
+ * directory
+ */
+public final class ResourceFormatConverter {
+    private static final Logger logger = Logger.getLogger(ResourceFormatConverter.class);
+
+    private ResourceFormatConverter() {
+    }
+
+    /**
+     * Converts the given model files into the given format and stores them with the same file names in the target
+     * directory
+     * @param sourceFiles Model files that should be converted
+     * @param targetDirectory Directory the converted models are stored in, which is created if it does not exist
+     * @param format Format the models are converted to
+     * @return Returns the paths of the converted models
+     * @throws IOException Thrown if a model could not be loaded or saved
+     */
+    public static List<Path> convert(List<Path> sourceFiles, Path targetDirectory, ResourceFormat format) throws IOException {
+        ResourceSet resourceSet = createResourceSet();
+        List<Resource> sourceResources = new ArrayList<>();
+        for (Path sourceFile : sourceFiles) {
+            try {
+                sourceResources.add(resourceSet.getResource(createURI(sourceFile), true));
+            } catch (RuntimeException e) {
+                logger.error("Could not load model " + sourceFile, e);
+                throw new IOException("Could not load model " + sourceFile, e);
+            }
+        }
+        EcoreUtil.resolveAll(resourceSet);
+
+        Files.createDirectories(targetDirectory);
+        List<Resource> targetResources = new ArrayList<>();
+        List<Path> targetFiles = new ArrayList<>();
+        for (Resource sourceResource : sourceResources) {
+            Path targetFile = targetDirectory.resolve(Path.of(sourceResource.getURI()
+                    .toFileString())
+                    .getFileName());
+            Resource targetResource = format.createResource(createURI(targetFile));
+            targetResources.add(targetResource);
+            targetFiles.add(targetFile);
+        }
+        resourceSet.getResources()
+                .addAll(targetResources);
+        for (int i = 0; i < sourceResources.size(); i++) {
+            List<EObject> contents = new ArrayList<>(sourceResources.get(i)
+                    .getContents());
+            targetResources.get(i)
+                    .getContents()
+                    .addAll(contents);
+        }
+        for (Resource targetResource : targetResources) {
+            targetResource.save(format.getSaveOptions());
+        }
+        logger.info("Converted " + targetFiles.size() + " models to " + format);
+        return targetFiles;
+    }
+
+    /**
+     * Converts the given model file into the given format and stores it at the given target path
+     * @param sourceFile Model file that should be converted
+     * @param targetFile Path the converted model is stored at
+     * @param format Format the model is converted to
+     * @throws IOException Thrown if the model could not be loaded or saved
+     */
+    public static void convert(Path sourceFile, Path targetFile, ResourceFormat format) throws IOException {
+        ResourceSet resourceSet = createResourceSet();
+        Resource sourceResource;
+        try {
+            sourceResource = resourceSet.getResource(createURI(sourceFile), true);
+        } catch (RuntimeException e) {
+            logger.error("Could not load model " + sourceFile, e);
+            throw new IOException("Could not load model " + sourceFile, e);
+        }
+        EcoreUtil.resolveAll(resourceSet);
+        Path targetParent = targetFile.toAbsolutePath()
+                .getParent();
+        if (targetParent != null) {
+            Files.createDirectories(targetParent);
+        }
+        Resource targetResource = format.createResource(createURI(targetFile));
+        resourceSet.getResources()
+                .add(targetResource);
+        targetResource.getContents()
+                .addAll(new ArrayList<>(sourceResource.getContents()));
+        targetResource.save(format.getSaveOptions());
+    }
+
+    /**
+     * Creates a file URI for the given path
+     * @param path Path to the file
+     * @return Returns the absolute file URI of the path
+     */
+    private static URI createURI(Path path) {
+        return URI.createFileURI(path.toAbsolutePath()
+                .normalize()
+                .toString());
+    }
+
+    /**
+     * Creates a resource set that is able to load all models of the analysis in any {@link ResourceFormat}
+     * @return Returns a new resource set
+     */
+    private static ResourceSet createResourceSet() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource.Factory resourceFactory = ResourceFormat.createDetectingFactory(resourceSet.getURIConverter());
+        resourceSet.getPackageRegistry()
+                .put(GDPRPackage.eNS_URI, GDPRPackage.eINSTANCE);
+        resourceSet.getPackageRegistry()
+                .put(ContextpropertiesPackage.eNS_URI, ContextpropertiesPackage.eINSTANCE);
+        resourceSet.getPackageRegistry()
+                .put(dataflowdiagramPackage.eNS_URI, dataflowdiagramPackage.eINSTANCE);
+        resourceSet.getPackageRegistry()
+                .put(datadictionaryPackage.eNS_URI, datadictionaryPackage.eINSTANCE);
+        for (String fileExtension : List.of(GDPRPackage.eNAME, ContextpropertiesPackage.eNAME, "dataflowdiagram", "datadictionary")) {
+            resourceSet.getResourceFactoryRegistry()
+                    .getExtensionToFactoryMap()
+                    .put(fileExtension, resourceFactory);
+        }
+        return resourceSet;
+    }
+
+    /**
+     * Converts model files from the command line. Expects the name of the target {@link ResourceFormat}, the target
+     * directory and the model files that should be converted
+     * @param args Command line arguments
+     * @throws IOException Thrown if a model could not be converted
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            String formats = Arrays.stream(ResourceFormat.values())
+                    .map(ResourceFormat::name)
+                    .collect(Collectors.joining("|"));
+            logger.error("Usage: ResourceFormatConverter <" + formats + "> <target directory> <model files...>");
+            throw new IllegalArgumentException("Expected a format, a target directory and at least one model file");
+        }
+        ResourceFormat format = ResourceFormat.valueOf(args[0].toUpperCase());
+        List<Path> sourceFiles = Arrays.stream(args, 2, args.length)
+                .map(Path::of)
+                .toList();
+        convert(sourceFiles, Path.of(args[1]), format);
+    }
+}
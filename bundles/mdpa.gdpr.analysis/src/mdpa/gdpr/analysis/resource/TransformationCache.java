@@ -0,0 +1,205 @@
+package mdpa.gdpr.analysis.resource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import mdpa.gdpr.metamodel.GDPR.LegalAssessmentFacts;
+import mdpa.gdpr.metamodel.GDPR.Processing;
+import mdpa.gdpr.metamodel.contextproperties.ScopeDependentAssessmentFacts;
+import org.apache.log4j.Logger;
+import org.dataflowanalysis.dfd.dataflowdiagram.Node;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+
+/**
+ * On-disk cache for the results of the transformation from GDPR to DFD performed by the
+ * {@link mdpa.gdpr.analysis.core.TransformationManager}.
+ * <p/>
+ * Entries are keyed by a SHA-256 hash of the serialized GDPR and context property models. Each entry is stored in its
+ * own directory and contains the data flow diagram, the data dictionary and the trace between the nodes of the data
+ * flow diagram and the {@link Processing} elements of the GDPR model. The trace is written last, so incomplete entries
+ * are never loaded.
+ * <p/>
+ * Failures while reading or writing the cache are logged and result in a cache miss, so the transformation is performed
+ * as usual
+ */
+public class TransformationCache {
+    private static final String CACHE_FORMAT_VERSION = "1";
+    private static final String TRANSFORMATION_FILE_NAME = "transformation";
+    private static final String TRACE_FILE = "trace.properties";
+
+    private final Logger logger = Logger.getLogger(TransformationCache.class);
+    private final Path directory;
+    private final ResourceFormat format;
+
+    /**
+     * Creates a new {@link TransformationCache} that stores its entries in the given directory as {@link ResourceFormat#XMI}
+     * @param directory Directory containing the cache entries, which is created if it does not exist
+     */
+    public TransformationCache(Path directory) {
+        this(directory, ResourceFormat.XMI);
+    }
+
+    /**
+     * Creates a new {@link TransformationCache} that stores its entries in the given directory and format. Existing entries
+     * are loaded regardless of the format they were stored in
+     * @param directory Directory containing the cache entries, which is created if it does not exist
+     * @param format Format the data flow diagrams and data dictionaries of new entries are stored in
+     */
+    public TransformationCache(Path directory, ResourceFormat format) {
+        this.directory = directory;
+        this.format = format;
+    }
+
+    /**
+     * Returns the directory containing the entries of the cache
+     * @return Returns the path to the cache directory
+     */
+    public Path getDirectory() {
+        return this.directory;
+    }
+
+    /**
+     * Returns the format in which new entries of the cache are stored
+     * @return Returns the format of new cache entries
+     */
+    public ResourceFormat getFormat() {
+        return this.format;
+    }
+
+    /**
+     * Computes the cache key for the given input models of the transformation. The key is a hash of the serialized
+     * contents of both models. Models that are not contained in a resource cannot be serialized and are not cached
+     * @param gdprModel GDPR model that is transformed
+     * @param scopeDependentAssessmentFacts Context property model that is used in the transformation
+     * @return Returns the cache key, if it could be computed
+     */
+    public Optional<String> computeKey(LegalAssessmentFacts gdprModel, ScopeDependentAssessmentFacts scopeDependentAssessmentFacts) {
+        if (gdprModel.eResource() == null || scopeDependentAssessmentFacts.eResource() == null) {
+            logger.warn("Input models of the transformation are not contained in a resource and cannot be cached");
+            return Optional.empty();
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(CACHE_FORMAT_VERSION.getBytes());
+            digest.update(this.serialize(gdprModel.eResource()));
+            digest.update(this.serialize(scopeDependentAssessmentFacts.eResource()));
+            return Optional.of(HexFormat.of()
+                    .formatHex(digest.digest()));
+        } catch (IOException | NoSuchAlgorithmException e) {
+            logger.warn("Could not compute cache key of the transformation", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Serializes the contents of the given resource
+     * @param resource Resource that should be serialized
+     * @return Returns the serialized contents of the resource
+     * @throws IOException Thrown if the resource could not be serialized
+     */
+    private byte[] serialize(Resource resource) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        resource.save(outputStream, Map.of());
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Loads the cached transformation result with the given key
+     * @param key Cache key of the transformation, as computed by {@link #computeKey}
+     * @param gdprModel GDPR model that was transformed, which is used to resolve the trace
+     * @return Returns the cached transformation result, if the cache contains a complete entry for the key
+     */
+    public Optional<CachedTransformation> load(String key, LegalAssessmentFacts gdprModel) {
+        Path entry = this.directory.resolve(key);
+        Path traceFile = entry.resolve(TRACE_FILE);
+        if (!Files.isRegularFile(traceFile)) {
+            return Optional.empty();
+        }
+        try {
+            DataFlowDiagramAndDataDictionary dataFlowDiagramAndDataDictionary = DataFlowDiagramAndDataDictionary.load(entry.toString(),
+                    TRANSFORMATION_FILE_NAME);
+            Resource dataFlowDiagramResource = dataFlowDiagramAndDataDictionary.dataFlowDiagram()
+                    .eResource();
+
+            Properties traceProperties = new Properties();
+            try (InputStream inputStream = Files.newInputStream(traceFile)) {
+                traceProperties.load(inputStream);
+            }
+            Map<Node, Processing> trace = new HashMap<>();
+            for (String nodeFragment : traceProperties.stringPropertyNames()) {
+                EObject node = dataFlowDiagramResource.getEObject(nodeFragment);
+                EObject processing = gdprModel.eResource()
+                        .getEObject(traceProperties.getProperty(nodeFragment));
+                if (!(node instanceof Node dfdNode) || !(processing instanceof Processing gdprProcessing)) {
+                    logger.warn("Cached trace of transformation " + key + " does not match the models, ignoring cache entry");
+                    return Optional.empty();
+                }
+                trace.put(dfdNode, gdprProcessing);
+            }
+            logger.info("Loaded cached transformation " + key);
+            return Optional.of(new CachedTransformation(dataFlowDiagramAndDataDictionary, trace));
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not load cached transformation " + key, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the given transformation result under the given key. The data flow diagram and data dictionary are moved into
+     * the resources of the cache entry
+     * @param key Cache key of the transformation, as computed by {@link #computeKey}
+     * @param dataFlowDiagramAndDataDictionary Data flow diagram and data dictionary produced by the transformation
+     * @param trace Mapping between the nodes of the data flow diagram and the processing elements of the GDPR model
+     */
+    public void store(String key, DataFlowDiagramAndDataDictionary dataFlowDiagramAndDataDictionary, Map<Node, Processing> trace) {
+        Path entry = this.directory.resolve(key);
+        try {
+            Files.createDirectories(entry);
+            dataFlowDiagramAndDataDictionary.save(entry.toString(), TRANSFORMATION_FILE_NAME, this.format);
+            Resource dataFlowDiagramResource = dataFlowDiagramAndDataDictionary.dataFlowDiagram()
+                    .eResource();
+
+            Properties traceProperties = new Properties();
+            for (Map.Entry<Node, Processing> traceEntry : trace.entrySet()) {
+                Resource gdprResource = traceEntry.getValue()
+                        .eResource();
+                if (gdprResource == null || traceEntry.getKey()
+                        .eResource() != dataFlowDiagramResource) {
+                    logger.warn("Trace of transformation " + key + " references elements outside of the models, not storing it in cache");
+                    return;
+                }
+                traceProperties.setProperty(dataFlowDiagramResource.getURIFragment(traceEntry.getKey()),
+                        gdprResource.getURIFragment(traceEntry.getValue()));
+            }
+            Path temporaryTraceFile = Files.createTempFile(entry, TRACE_FILE, ".tmp");
+            try (OutputStream outputStream = Files.newOutputStream(temporaryTraceFile)) {
+                traceProperties.store(outputStream, null);
+            }
+            Files.move(temporaryTraceFile, entry.resolve(TRACE_FILE), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            logger.info("Stored transformation " + key + " in cache");
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not store transformation " + key + " in cache", e);
+        }
+    }
+
+    /**
+     * Result of a transformation that was loaded from the cache
+     * @param dataFlowDiagramAndDataDictionary Data flow diagram and data dictionary of the transformation
+     * @param trace Mapping between the nodes of the data flow diagram and the processing elements of the GDPR model
+     */
+    public record CachedTransformation(DataFlowDiagramAndDataDictionary dataFlowDiagramAndDataDictionary, Map<Node, Processing> trace) {
+    }
+}
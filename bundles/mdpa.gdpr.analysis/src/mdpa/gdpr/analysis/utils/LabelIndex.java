@@ -0,0 +1,108 @@
+package mdpa.gdpr.analysis.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.dataflowanalysis.dfd.datadictionary.DataDictionary;
+import org.dataflowanalysis.dfd.datadictionary.Label;
+import org.dataflowanalysis.dfd.datadictionary.LabelType;
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * Index of the labels contained in a {@link DataDictionary} keyed by the name of their label type and their own name.
+ * <p/>
+ * The index is attached to the data dictionary as an adapter. Whenever a label type or a label of the data dictionary is
+ * added, removed or renamed, the index is invalidated and rebuilt on the next lookup. Lookups are thread-safe. If
+ * multiple label types or labels share the same name, the first one in the data dictionary is returned
+ */
+public class LabelIndex extends EContentAdapter {
+    private final DataDictionary dataDictionary;
+    private volatile Map<String, Map<String, Label>> labels;
+
+    /**
+     * Creates a new {@link LabelIndex} for the given data dictionary
+     * @param dataDictionary Data dictionary that is indexed
+     */
+    private LabelIndex(DataDictionary dataDictionary) {
+        this.dataDictionary = dataDictionary;
+    }
+
+    /**
+     * Returns the {@link LabelIndex} of the given data dictionary. If the data dictionary does not have an index yet, a new
+     * index is created and attached to it
+     * @param dataDictionary Data dictionary of which the index should be returned
+     * @return Returns the {@link LabelIndex} of the data dictionary
+     */
+    public static LabelIndex of(DataDictionary dataDictionary) {
+        synchronized (dataDictionary) {
+            for (Adapter adapter : dataDictionary.eAdapters()) {
+                if (adapter instanceof LabelIndex labelIndex && labelIndex.dataDictionary == dataDictionary) {
+                    return labelIndex;
+                }
+            }
+            LabelIndex labelIndex = new LabelIndex(dataDictionary);
+            dataDictionary.eAdapters()
+                    .add(labelIndex);
+            return labelIndex;
+        }
+    }
+
+    /**
+     * Finds the label with the given name in the label type with the given name
+     * @param labelTypeName Name of the label type
+     * @param labelName Name of the label
+     * @return Returns the label, if it exists. Otherwise, an empty optional is returned
+     */
+    public Optional<Label> getLabel(String labelTypeName, String labelName) {
+        return Optional.ofNullable(this.getLabels()
+                .getOrDefault(labelTypeName, Map.of())
+                .get(labelName));
+    }
+
+    /**
+     * Returns the current index and rebuilds it, if it was invalidated
+     * @return Returns the map from label type name to the map from label name to label
+     */
+    private Map<String, Map<String, Label>> getLabels() {
+        Map<String, Map<String, Label>> labels = this.labels;
+        if (labels == null) {
+            synchronized (this) {
+                labels = this.labels;
+                if (labels == null) {
+                    labels = this.createIndex();
+                    this.labels = labels;
+                }
+            }
+        }
+        return labels;
+    }
+
+    /**
+     * Creates the index from the current contents of the data dictionary
+     * @return Returns the map from label type name to the map from label name to label
+     */
+    private Map<String, Map<String, Label>> createIndex() {
+        Map<String, Map<String, Label>> labels = new HashMap<>();
+        for (LabelType labelType : this.dataDictionary.getLabelTypes()) {
+            Map<String, Label> typeLabels = labels.computeIfAbsent(labelType.getEntityName(), it -> new HashMap<>());
+            for (Label label : labelType.getLabel()) {
+                typeLabels.putIfAbsent(label.getEntityName(), label);
+            }
+        }
+        return labels;
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+        if (notification.isTouch()) {
+            return;
+        }
+        Object notifier = notification.getNotifier();
+        if (notifier instanceof DataDictionary || notifier instanceof LabelType || notifier instanceof Label) {
+            this.labels = null;
+        }
+    }
+}
@@ -18,7 +18,6 @@ import org.dataflowanalysis.analysis.utils.LoggerManager;
 import org.dataflowanalysis.dfd.datadictionary.Assignment;
 import org.dataflowanalysis.dfd.datadictionary.DataDictionary;
 import org.dataflowanalysis.dfd.datadictionary.Label;
-import org.dataflowanalysis.dfd.datadictionary.LabelType;
 import org.dataflowanalysis.dfd.datadictionary.Pin;
 import org.dataflowanalysis.dfd.datadictionary.datadictionaryFactory;
 import org.dataflowanalysis.dfd.dataflowdiagram.Node;
@@ -143,15 +142,8 @@ public class UncertaintyUtils {
      * @return Returns the label that corresponds to the given natural person
      */
     private static Label getLabelForNaturalPerson(DataDictionary dataDictionary, NaturalPerson person) {
-        LabelType labelType = dataDictionary.getLabelTypes()
-                .stream()
-                .filter(it -> it.getEntityName().equals("NaturalPerson"))
-                .findAny()
-                .orElseThrow();
-        return labelType.getLabel()
-                .stream()
-                .filter(it -> it.getEntityName().equals(person.getEntityName()))
-                .findAny()
+        return LabelIndex.of(dataDictionary)
+                .getLabel("NaturalPerson", person.getEntityName())
                 .orElseThrow();
     }
 
@@ -174,7 +166,7 @@ public class UncertaintyUtils {
      * @return Returns true, if the given scope element matches the vertex. Otherwise, the method returns false.
      */
     public static boolean scopeElementApplicable(DFDGDPRVertex vertex, LAFScopeElement scopeElement) {
-        boolean matches = vertex.getRelatedElements().contains(scopeElement.getLafElement());
+        boolean matches = vertex.hasRelatedElement(scopeElement.getLafElement());
         if (scopeElement.isNegated()) {
             return !matches;
         } else {
@@ -215,20 +207,12 @@ public class UncertaintyUtils {
      * @return Returns a list of labels that are applied by the given CDA source and scenario
      */
     public static List<Label> getAppliedLabel(ContextDependentAttributeSource source, ContextDependentAttributeScenario scenario, DataDictionary dataDictionary) {
-        LabelType labelType = dataDictionary.getLabelTypes()
-                .stream()
-                .filter(it -> it.getEntityName()
-                        .equals(source.getScopeDependentAssessmentFact()
-                                .getEntityName()))
-                .findAny()
-                .orElseThrow();
+        LabelIndex labelIndex = LabelIndex.of(dataDictionary);
+        String labelTypeName = source.getScopeDependentAssessmentFact()
+                .getEntityName();
         List<Label> labels = new ArrayList<>();
         for (Expression expression : scenario.getExpressions()) {
-            Label label = labelType.getLabel()
-                    .stream()
-                    .filter(it -> it.getEntityName()
-                            .equals(expression.getEntityName()))
-                    .findAny()
+            Label label = labelIndex.getLabel(labelTypeName, expression.getEntityName())
                     .orElseThrow();
             labels.add(label);
         }
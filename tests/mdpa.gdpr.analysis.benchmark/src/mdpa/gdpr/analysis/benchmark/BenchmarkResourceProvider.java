@@ -0,0 +1,39 @@
+package mdpa.gdpr.analysis.benchmark;
+
+import mdpa.gdpr.analysis.core.TransformationManager;
+import mdpa.gdpr.analysis.resource.GDPRURIResourceProvider;
+import org.eclipse.emf.common.util.URI;
+
+/**
+ * Extension of the {@link GDPRURIResourceProvider} that allows replacing the {@link TransformationManager} between
+ * benchmark invocations.
+ * <p/>
+ * The transformation manager stores the mapping between the GDPR and DFD model elements of each transformation. Using a
+ * fresh transformation manager for each invocation ensures, that repeated transformations of the same model measure the
+ * same amount of work
+ */
+public class BenchmarkResourceProvider extends GDPRURIResourceProvider {
+    private TransformationManager transformationManager;
+
+    /**
+     * Creates a new {@link BenchmarkResourceProvider} using the provided URIs to the models
+     * @param modelURI URI path to the GDPR model
+     * @param propertyURI URI path to the context property model
+     */
+    public BenchmarkResourceProvider(URI modelURI, URI propertyURI) {
+        super(modelURI, propertyURI);
+        this.transformationManager = new TransformationManager();
+    }
+
+    /**
+     * Replaces the stored {@link TransformationManager} with a new transformation manager
+     */
+    public void resetTransformationManager() {
+        this.transformationManager = new TransformationManager();
+    }
+
+    @Override
+    public TransformationManager getTransformationManager() {
+        return this.transformationManager;
+    }
+}
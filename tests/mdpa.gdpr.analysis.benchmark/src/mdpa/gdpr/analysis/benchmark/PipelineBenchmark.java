@@ -0,0 +1,185 @@
+package mdpa.gdpr.analysis.benchmark;
+
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import mdpa.gdpr.analysis.GDPRLegalAssessmentAnalysis;
+import mdpa.gdpr.analysis.GDPRLegalAssessmentAnalysisBuilder;
+import mdpa.gdpr.analysis.core.TransformationManager;
+import mdpa.gdpr.analysis.dfd.DFDGDPRFlowGraphCollection;
+import mdpa.gdpr.analysis.dfd.DFDGDPRTransposeFlowGraph;
+import mdpa.gdpr.analysis.dfd.DFDGDPRVertex;
+import mdpa.gdpr.analysis.resource.DataFlowDiagramAndDataDictionary;
+import mdpa.gdpr.analysis.testmodels.Activator;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.dataflowanalysis.analysis.core.AbstractTransposeFlowGraph;
+import org.dataflowanalysis.analysis.core.AbstractVertex;
+import org.dataflowanalysis.analysis.utils.ResourceUtils;
+import org.eclipse.emf.common.util.URI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks for the phases of the {@link GDPRLegalAssessmentAnalysis}:
+ * - Initialization of an additional analysis in an already initialized environment
+ * - Transformation of the GDPR model into a data flow diagram
+ * - Transforming the GDPR model and finding the transpose flow graphs of the resulting data flow diagram
+ * - Resolving the context dependent attributes
+ * - Evaluating the resolved transpose flow graphs
+ * - Querying the evaluated transpose flow graphs
+ * <p/>
+ * Except for finding the transpose flow graphs, which always transforms the GDPR model first, each phase is measured in
+ * isolation: The inputs of a phase are created once per trial by running the preceding phases. Phases that modify or
+ * cache state in their input receive a fresh input for each invocation, which is created outside of the measurement
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PipelineBenchmark {
+    public static final String TEST_MODEL_PROJECT_NAME = "mdpa.gdpr.analysis.testmodels";
+
+    /**
+     * Holds an initialized analysis for one of the test models and the results of each phase of the analysis
+     */
+    @State(Scope.Benchmark)
+    public static class AnalysisState {
+        @Param({"TravelPlanner", "TrainModel", "Banking"})
+        public String model;
+
+        private URI modelURI;
+        private URI propertyURI;
+        private BenchmarkResourceProvider resourceProvider;
+        private GDPRLegalAssessmentAnalysis analysis;
+        private DFDGDPRFlowGraphCollection resolvedFlowGraphs;
+        private DFDGDPRFlowGraphCollection evaluatedFlowGraphs;
+
+        @Setup
+        public void setup() {
+            String gdprModelPath = Paths.get("models", this.model, "default.gdpr")
+                    .toString();
+            String propertyPath = Paths.get("models", this.model, "default.contextproperties")
+                    .toString();
+            this.modelURI = ResourceUtils.createRelativePluginURI(gdprModelPath, TEST_MODEL_PROJECT_NAME);
+            this.propertyURI = ResourceUtils.createRelativePluginURI(propertyPath, TEST_MODEL_PROJECT_NAME);
+            this.resourceProvider = new BenchmarkResourceProvider(this.modelURI, this.propertyURI);
+            this.analysis = new GDPRLegalAssessmentAnalysisBuilder().standalone()
+                    .modelProjectName(TEST_MODEL_PROJECT_NAME)
+                    .usePluginActivator(Activator.class)
+                    .useCustomResourceProvider(this.resourceProvider)
+                    .build();
+            this.analysis.initializeAnalysis();
+            Logger.getRootLogger()
+                    .setLevel(Level.WARN);
+
+            this.resolvedFlowGraphs = this.findFlowGraphs()
+                    .resolveContextDependentAttributes();
+            this.evaluatedFlowGraphs = this.copy(this.resolvedFlowGraphs);
+            this.evaluatedFlowGraphs.evaluate();
+        }
+
+        /**
+         * Transforms the GDPR model with a fresh {@link TransformationManager} and finds its transpose flow graphs
+         * @return Returns the found {@link DFDGDPRFlowGraphCollection}
+         */
+        private DFDGDPRFlowGraphCollection findFlowGraphs() {
+            this.resourceProvider.resetTransformationManager();
+            return (DFDGDPRFlowGraphCollection) this.analysis.findFlowGraphs();
+        }
+
+        /**
+         * Creates a new flow graph collection containing the same transpose flow graphs as the given collection
+         * @param flowGraphs Flow graph collection that should be copied
+         * @return Returns a new {@link DFDGDPRFlowGraphCollection} that can be modified independently
+         */
+        private DFDGDPRFlowGraphCollection copy(DFDGDPRFlowGraphCollection flowGraphs) {
+            List<DFDGDPRTransposeFlowGraph> transposeFlowGraphs = flowGraphs.getTransposeFlowGraphs()
+                    .stream()
+                    .map(DFDGDPRTransposeFlowGraph.class::cast)
+                    .toList();
+            return new DFDGDPRFlowGraphCollection(transposeFlowGraphs, this.resourceProvider, flowGraphs.getSettings(),
+                    flowGraphs.getStateStatistics());
+        }
+    }
+
+    /**
+     * Holds transpose flow graphs with unresolved context dependent attributes that are found anew for each invocation.
+     * Resolving the context dependent attributes caches the unified copy of each transpose flow graph. Therefore, reusing
+     * the transpose flow graphs would only measure the first invocation with the cost of the copy
+     */
+    @State(Scope.Thread)
+    public static class FlowGraphState {
+        private DFDGDPRFlowGraphCollection flowGraphs;
+
+        @Setup(org.openjdk.jmh.annotations.Level.Invocation)
+        public void setup(AnalysisState state) {
+            this.flowGraphs = state.findFlowGraphs();
+        }
+    }
+
+    @Benchmark
+    public GDPRLegalAssessmentAnalysis initializeAnalysis(AnalysisState state) {
+        GDPRLegalAssessmentAnalysis analysis = new GDPRLegalAssessmentAnalysisBuilder().standalone()
+                .modelProjectName(TEST_MODEL_PROJECT_NAME)
+                .usePluginActivator(Activator.class)
+                .useCustomResourceProvider(new BenchmarkResourceProvider(state.modelURI, state.propertyURI))
+                .build();
+        analysis.initializeAnalysis();
+        return analysis;
+    }
+
+    @Benchmark
+    public DataFlowDiagramAndDataDictionary transform(AnalysisState state) {
+        return new TransformationManager().transform(state.resourceProvider.getGDPRModel(), state.resourceProvider.getScopeDependentAssessmentFacts());
+    }
+
+    @Benchmark
+    public DFDGDPRFlowGraphCollection transformAndFindTransposeFlowGraphs(AnalysisState state) {
+        return state.findFlowGraphs();
+    }
+
+    @Benchmark
+    public DFDGDPRFlowGraphCollection resolveContextDependentAttributes(FlowGraphState state) {
+        return state.flowGraphs.resolveContextDependentAttributes();
+    }
+
+    @Benchmark
+    public DFDGDPRFlowGraphCollection evaluate(AnalysisState state) {
+        DFDGDPRFlowGraphCollection flowGraphs = state.copy(state.resolvedFlowGraphs);
+        flowGraphs.evaluate();
+        return flowGraphs;
+    }
+
+    @Benchmark
+    public void queryDataFlow(AnalysisState state, Blackhole blackhole) {
+        for (AbstractTransposeFlowGraph transposeFlowGraph : state.evaluatedFlowGraphs.getTransposeFlowGraphs()) {
+            blackhole.consume(state.analysis.queryDataFlow(transposeFlowGraph, PipelineBenchmark::isViolating));
+        }
+    }
+
+    /**
+     * Example constraint used by the query benchmark. It is violated by vertices processing unnecessary data
+     * @param vertex Vertex that is checked
+     * @return Returns true, if the vertex violates the constraint. Otherwise, the method returns false
+     */
+    private static boolean isViolating(AbstractVertex<?> vertex) {
+        return ((DFDGDPRVertex) vertex).getAllDataCharacteristics()
+                .stream()
+                .anyMatch(it -> it.getCharacteristicsWithName("Necessary")
+                        .stream()
+                        .anyMatch(value -> value.getValueName()
+                                .equals("False")));
+    }
+}
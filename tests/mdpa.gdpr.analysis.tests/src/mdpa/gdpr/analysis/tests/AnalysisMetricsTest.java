@@ -0,0 +1,44 @@
+package mdpa.gdpr.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import mdpa.gdpr.analysis.GDPRLegalAssessmentAnalysis;
+import mdpa.gdpr.analysis.core.AnalysisMetrics;
+import mdpa.gdpr.analysis.dfd.AnalysisSnapshot;
+import org.junit.jupiter.api.Test;
+
+public class AnalysisMetricsTest extends TrainModelTest {
+    @Test
+    public void testMetrics() {
+        List<String> publishedMetrics = new ArrayList<>();
+        GDPRLegalAssessmentAnalysis measuredAnalysis = this.createAnalysis(it -> it.collectMetrics(metrics -> publishedMetrics.add(metrics.toJson())));
+        AnalysisSnapshot snapshot = measuredAnalysis.analyze();
+
+        AnalysisMetrics metrics = measuredAnalysis.getMetrics();
+        assertTrue(metrics.isEnabled());
+        assertEquals(snapshot.getStateStatistics()
+                .getExploredStates(), metrics.get(AnalysisMetrics.Phase.RESOLUTION, AnalysisMetrics.Counter.STATES_ENUMERATED));
+        assertTrue(metrics.get(AnalysisMetrics.Phase.RESOLUTION, AnalysisMetrics.Counter.NODES_CLONED) > 0);
+        assertTrue(metrics.get(AnalysisMetrics.Phase.EVALUATION, AnalysisMetrics.Counter.VERTICES_COPIED) > 0);
+        assertTrue(metrics.get(AnalysisMetrics.Phase.EVALUATION, AnalysisMetrics.Counter.LABELS_PROPAGATED) > 0);
+        assertTrue(metrics.getTimeNanos(AnalysisMetrics.Phase.INITIALIZATION) > 0);
+        assertTrue(metrics.getTimeNanos(AnalysisMetrics.Phase.TRANSFORMATION) > 0);
+        assertTrue(metrics.getTimeNanos(AnalysisMetrics.Phase.EVALUATION) > 0);
+        assertEquals(List.of(metrics.toJson()), publishedMetrics);
+        assertTrue(metrics.toJson()
+                .startsWith("{\"initialization\":{\"summedTimeNanos\":"));
+    }
+
+    @Test
+    public void testDisabledMetrics() {
+        this.analysis.analyze();
+        assertFalse(this.analysis.getMetrics()
+                .isEnabled());
+        assertEquals(0, this.analysis.getMetrics()
+                .getTotal(AnalysisMetrics.Counter.STATES_ENUMERATED));
+    }
+}
@@ -0,0 +1,109 @@
+package mdpa.gdpr.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import mdpa.gdpr.analysis.GDPRLegalAssessmentAnalysis;
+import mdpa.gdpr.analysis.core.AnalysisProgress;
+import mdpa.gdpr.analysis.core.CancellationToken;
+import mdpa.gdpr.analysis.dfd.AnalysisSnapshot;
+import mdpa.gdpr.analysis.dfd.DFDGDPRFlowGraphCollection;
+import org.junit.jupiter.api.Test;
+
+public class AnalysisProgressTest extends TrainModelTest {
+    private static final int PARALLELISM = 2;
+
+    @Test
+    public void testProgressAndBudgets() {
+        AtomicLong evaluatedFlowGraphs = new AtomicLong();
+        AtomicLong totalStates = new AtomicLong();
+        GDPRLegalAssessmentAnalysis reportingAnalysis = this.createAnalysis(it -> it.progressListener(progress -> {
+            evaluatedFlowGraphs.accumulateAndGet(progress.getEvaluatedFlowGraphs(), Math::max);
+            totalStates.set(progress.getTotalStates());
+        }));
+        AnalysisSnapshot snapshot = reportingAnalysis.analyze();
+        int alternateFlowGraphCount = snapshot.getFlowGraphs()
+                .getTransposeFlowGraphs()
+                .size();
+        assertTrue(snapshot.isComplete());
+        assertEquals(alternateFlowGraphCount, evaluatedFlowGraphs.get());
+        assertEquals(snapshot.getStateStatistics()
+                .getTotalStates(), totalStates.get());
+
+        GDPRLegalAssessmentAnalysis limitedAnalysis = this.createAnalysis(it -> it.stateBudget(1));
+        AnalysisSnapshot limitedSnapshot = limitedAnalysis.analyze();
+        assertFalse(limitedSnapshot.isComplete());
+        assertEquals(Optional.of(AnalysisProgress.StopReason.STATE_BUDGET_EXHAUSTED), limitedSnapshot.getStateStatistics()
+                .getStopReason());
+        assertEquals(1, limitedSnapshot.getStateStatistics()
+                .getExploredStates());
+        assertTrue(limitedSnapshot.getFlowGraphs()
+                .getTransposeFlowGraphs()
+                .size() < alternateFlowGraphCount);
+
+        CancellationToken cancellationToken = new CancellationToken();
+        cancellationToken.cancel();
+        GDPRLegalAssessmentAnalysis cancelledAnalysis = this.createAnalysis(it -> it.cancellationToken(cancellationToken));
+        AnalysisSnapshot cancelledSnapshot = cancelledAnalysis.analyze();
+        assertEquals(Optional.of(AnalysisProgress.StopReason.CANCELLED), cancelledSnapshot.getStateStatistics()
+                .getStopReason());
+        assertEquals(0, cancelledSnapshot.getStateStatistics()
+                .getExploredStates());
+        assertTrue(cancelledSnapshot.getFlowGraphs()
+                .getTransposeFlowGraphs()
+                .isEmpty());
+
+        AnalysisSnapshot reanalyzedSnapshot = cancelledAnalysis.reanalyze(limitedSnapshot, List.of());
+        assertEquals(0, reanalyzedSnapshot.getReusedFlowGraphs());
+    }
+
+    @Test
+    public void testParallelCancellation() {
+        // The listener cancels the analysis once the first state was resolved. Each worker checks the cancellation before
+        // starting its next state, so at most one state per worker is resolved regardless of the scheduling
+        long exploredStates = this.analysis.analyze()
+                .getStateStatistics()
+                .getExploredStates();
+        assertTrue(exploredStates > PARALLELISM);
+
+        CancellationToken cancellationToken = new CancellationToken();
+        GDPRLegalAssessmentAnalysis cancellingAnalysis = this.createAnalysis(it -> it.parallelism(PARALLELISM)
+                .cancellationToken(cancellationToken)
+                .progressListener(progress -> {
+                    if (progress.getResolvedStates() > 0) {
+                        cancellationToken.cancel();
+                    }
+                }));
+        AnalysisSnapshot cancelledSnapshot = cancellingAnalysis.analyze();
+        assertEquals(Optional.of(AnalysisProgress.StopReason.CANCELLED), cancelledSnapshot.getStateStatistics()
+                .getStopReason());
+        assertFalse(cancelledSnapshot.isComplete());
+        long cancelledStates = cancelledSnapshot.getStateStatistics()
+                .getExploredStates();
+        assertTrue(cancelledStates >= 1);
+        assertTrue(cancelledStates <= PARALLELISM);
+        assertFalse(cancelledSnapshot.getFlowGraphs()
+                .getTransposeFlowGraphs()
+                .isEmpty());
+    }
+
+    @Test
+    public void testParallelEvaluationAfterStateBudget() {
+        GDPRLegalAssessmentAnalysis limitedAnalysis = this.createAnalysis(it -> it.stateBudget(1));
+        DFDGDPRFlowGraphCollection alternateFlowGraphs = this.resolve(limitedAnalysis);
+        assertFalse(alternateFlowGraphs.getStateStatistics()
+                .isComplete());
+
+        DFDGDPRFlowGraphCollection evaluatedFlowGraphs = alternateFlowGraphs.evaluateParallel();
+        assertFalse(evaluatedFlowGraphs.getTransposeFlowGraphs()
+                .isEmpty());
+        assertEquals(alternateFlowGraphs.getTransposeFlowGraphs()
+                .size(),
+                evaluatedFlowGraphs.getTransposeFlowGraphs()
+                        .size());
+    }
+}
@@ -0,0 +1,71 @@
+package mdpa.gdpr.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import mdpa.gdpr.analysis.batch.BatchAnalysisRunner;
+import mdpa.gdpr.analysis.batch.BatchModel;
+import mdpa.gdpr.analysis.batch.BatchResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BatchAnalysisTest {
+    private static final Path MODEL_DIRECTORY = Paths.get("..", BaseTest.TEST_MODEL_PROJECT_NAME, "models");
+
+    @Test
+    public void testBatchAnalysis(@TempDir Path resultDirectory) throws IOException {
+        List<BatchModel> models = BatchModel.fromDirectory(MODEL_DIRECTORY);
+        assertEquals(List.of("Banking/default", "TrainModel/default", "TravelPlanner/default"), models.stream()
+                .map(BatchModel::name)
+                .map(it -> it.replace('\\', '/'))
+                .toList());
+
+        Path resultFile = resultDirectory.resolve("results.csv");
+        List<BatchResult> results = new BatchAnalysisRunner(2, Duration.ofMinutes(5), 64).run(models, resultFile);
+        assertTrue(results.stream()
+                .allMatch(it -> it.status() == BatchResult.Status.SUCCESS));
+        assertEquals(6, results.get(1)
+                .alternateFlowGraphs());
+        assertEquals(2, results.get(2)
+                .alternateFlowGraphs());
+
+        List<String> lines = Files.readAllLines(resultFile);
+        assertEquals(BatchResult.CSV_HEADER, lines.get(0));
+        assertEquals(models.size() + 1, lines.size());
+    }
+
+    @Test
+    public void testTimeout() throws IOException {
+        List<BatchModel> models = BatchModel.fromDirectory(MODEL_DIRECTORY.resolve("TrainModel"));
+        assertEquals(1, models.size());
+
+        List<BatchResult> results = new BatchAnalysisRunner(1, Duration.ofMillis(1), 64).run(models);
+        assertEquals(BatchResult.Status.TIMEOUT, results.get(0)
+                .status());
+        assertEquals(0, results.get(0)
+                .alternateFlowGraphs());
+    }
+
+    @Test
+    public void testManifest(@TempDir Path manifestDirectory) throws IOException {
+        Path manifest = manifestDirectory.resolve("models.csv");
+        Path modelDirectory = MODEL_DIRECTORY.toAbsolutePath()
+                .resolve("TravelPlanner");
+        Files.write(manifest, List.of("# GDPR model, context properties, name",
+                modelDirectory.resolve("default.gdpr") + "," + modelDirectory.resolve("default.contextproperties") + ",TravelPlanner", ""));
+
+        List<BatchModel> models = BatchModel.fromManifest(manifest);
+        assertEquals(1, models.size());
+        assertEquals("TravelPlanner", models.get(0)
+                .name());
+        assertEquals(BatchResult.Status.SUCCESS, new BatchAnalysisRunner().run(models)
+                .get(0)
+                .status());
+    }
+}
@@ -0,0 +1,160 @@
+package mdpa.gdpr.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import mdpa.gdpr.analysis.core.ContextAttributeState;
+import mdpa.gdpr.analysis.core.ContextAttributeStateSpliterator;
+import mdpa.gdpr.analysis.core.ContextAttributeStateStatistics;
+import mdpa.gdpr.analysis.core.ContextDependentAttributeScenario;
+import mdpa.gdpr.analysis.core.ContextDependentAttributeSource;
+import mdpa.gdpr.metamodel.contextproperties.ContextpropertiesFactory;
+import mdpa.gdpr.metamodel.contextproperties.Expression;
+import mdpa.gdpr.metamodel.contextproperties.SAFAnnotation;
+import org.junit.jupiter.api.Test;
+
+public class ContextAttributeStateSpliteratorTest {
+    @Test
+    public void testCartesianProductOrder() {
+        List<ContextDependentAttributeSource> sources = this.createSources(2, 3, 2);
+        List<List<ContextDependentAttributeScenario>> states = ContextAttributeState.streamAllContextAttributeStates(sources)
+                .map(ContextAttributeState::selectedScenarios)
+                .toList();
+
+        assertEquals(this.cartesianProduct(this.getScenarios(sources)), states);
+    }
+
+    @Test
+    public void testSplitCoversAllStates() {
+        List<ContextDependentAttributeSource> sources = this.createSources(3, 2, 4);
+        List<ContextAttributeState> expectedStates = ContextAttributeState.streamAllContextAttributeStates(sources)
+                .toList();
+
+        List<ContextAttributeState> states = new ArrayList<>();
+        this.collectSplits(new ContextAttributeStateSpliterator(sources), 3, states);
+        assertEquals(expectedStates, states);
+    }
+
+    @Test
+    public void testEstimateSize() {
+        List<ContextDependentAttributeSource> sources = this.createSources(2, 3);
+        ContextAttributeStateSpliterator spliterator = new ContextAttributeStateSpliterator(sources);
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertEquals(6, spliterator.estimateSize());
+        assertEquals(6, spliterator.getTotalStates());
+
+        assertTrue(spliterator.tryAdvance(it -> {
+        }));
+        assertEquals(5, spliterator.estimateSize());
+        Spliterator<ContextAttributeState> prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(5, prefix.estimateSize() + spliterator.estimateSize());
+        assertEquals(prefix.estimateSize(), prefix.getExactSizeIfKnown());
+
+        ContextAttributeStateSpliterator pruningSpliterator = new ContextAttributeStateSpliterator(sources, it -> true,
+                new ContextAttributeStateStatistics());
+        assertFalse(pruningSpliterator.hasCharacteristics(Spliterator.SIZED));
+        assertEquals(6, pruningSpliterator.getTotalStates());
+    }
+
+    @Test
+    public void testPruning() {
+        List<ContextDependentAttributeSource> sources = this.createSources(3, 4, 2, 3);
+        List<List<ContextDependentAttributeScenario>> scenarios = this.getScenarios(sources);
+        Set<ContextDependentAttributeScenario> applicableScenarios = Set.of(scenarios.get(1)
+                .get(2),
+                scenarios.get(3)
+                        .get(1));
+        List<List<ContextDependentAttributeScenario>> expectedStates = this.cartesianProduct(scenarios)
+                .stream()
+                .filter(it -> it.stream()
+                        .anyMatch(applicableScenarios::contains))
+                .toList();
+
+        ContextAttributeStateStatistics statistics = new ContextAttributeStateStatistics();
+        List<List<ContextDependentAttributeScenario>> states = ContextAttributeState
+                .streamApplicableContextAttributeStates(sources, applicableScenarios::contains, statistics)
+                .map(ContextAttributeState::selectedScenarios)
+                .toList();
+        assertEquals(expectedStates, states);
+        assertEquals(expectedStates.size(), statistics.getExploredStates());
+        assertEquals(72 - expectedStates.size(), statistics.getPrunedStates());
+    }
+
+    @Test
+    public void testPruningWithoutApplicableScenarios() {
+        ContextAttributeStateStatistics statistics = new ContextAttributeStateStatistics();
+        assertEquals(0, ContextAttributeState.streamApplicableContextAttributeStates(this.createSources(2, 3, 2), it -> false, statistics)
+                .count());
+        assertEquals(0, statistics.getExploredStates());
+        assertEquals(12, statistics.getPrunedStates());
+    }
+
+    @Test
+    public void testStateSpaceOverflow() {
+        List<ContextDependentAttributeSource> sources = this.createSources(IntStream.generate(() -> 2)
+                .limit(Long.SIZE)
+                .toArray());
+        assertThrows(IllegalArgumentException.class, () -> new ContextAttributeStateSpliterator(sources));
+    }
+
+    private void collectSplits(Spliterator<ContextAttributeState> spliterator, int depth, List<ContextAttributeState> states) {
+        Spliterator<ContextAttributeState> prefix = depth > 0 ? spliterator.trySplit() : null;
+        if (prefix != null) {
+            this.collectSplits(prefix, depth - 1, states);
+            this.collectSplits(spliterator, depth - 1, states);
+        } else {
+            spliterator.forEachRemaining(states::add);
+        }
+    }
+
+    private List<ContextDependentAttributeSource> createSources(int... scenarioCounts) {
+        SAFAnnotation annotation = ContextpropertiesFactory.eINSTANCE.createSAFAnnotation();
+        List<ContextDependentAttributeSource> sources = new ArrayList<>();
+        for (int source = 0; source < scenarioCounts.length; source++) {
+            int sourceIndex = source;
+            List<Expression> expressions = IntStream.range(0, scenarioCounts[source])
+                    .mapToObj(scenario -> {
+                        Expression expression = ContextpropertiesFactory.eINSTANCE.createExpression();
+                        expression.setEntityName("Expression" + sourceIndex + "." + scenario);
+                        return expression;
+                    })
+                    .toList();
+            sources.add(new ContextDependentAttributeSource(annotation, expressions, List.of()));
+        }
+        return sources;
+    }
+
+    private List<List<ContextDependentAttributeScenario>> getScenarios(List<ContextDependentAttributeSource> sources) {
+        return sources.stream()
+                .map(ContextDependentAttributeSource::getContextDependentAttributeScenarios)
+                .toList();
+    }
+
+    private <T> List<List<T>> cartesianProduct(List<List<T>> lists) {
+        List<List<T>> result = new ArrayList<>();
+        if (lists.isEmpty()) {
+            result.add(new ArrayList<>());
+            return result;
+        }
+        List<List<T>> remainingLists = this.cartesianProduct(lists.subList(1, lists.size()));
+        for (T element : lists.get(0)) {
+            for (List<T> remainingList : remainingLists) {
+                List<T> combination = new ArrayList<>();
+                combination.add(element);
+                combination.addAll(remainingList);
+                result.add(combination);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,55 @@
+package mdpa.gdpr.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import mdpa.gdpr.analysis.GDPRLegalAssessmentAnalysis;
+import mdpa.gdpr.analysis.GDPRLegalAssessmentAnalysisBuilder;
+import mdpa.gdpr.analysis.core.ContextAttributeStateStatistics;
+import mdpa.gdpr.analysis.dfd.DFDGDPRFlowGraphCollection;
+import mdpa.gdpr.analysis.dfd.DFDGDPRTransposeFlowGraph;
+import org.junit.jupiter.api.Test;
+
+public class DeduplicationTest extends TrainModelTest {
+    @Test
+    public void testDeduplication() {
+        int alternateFlowGraphCount = this.resolve(this.analysis)
+                .getTransposeFlowGraphs()
+                .size();
+
+        GDPRLegalAssessmentAnalysis deduplicatingAnalysis = this.createAnalysis(GDPRLegalAssessmentAnalysisBuilder::deduplicateFlowGraphs);
+        DFDGDPRFlowGraphCollection deduplicatedFlowGraphs = this.resolve(deduplicatingAnalysis);
+        List<DFDGDPRTransposeFlowGraph> transposeFlowGraphs = deduplicatedFlowGraphs.getTransposeFlowGraphs()
+                .stream()
+                .map(DFDGDPRTransposeFlowGraph.class::cast)
+                .toList();
+
+        assertEquals(alternateFlowGraphCount, transposeFlowGraphs.stream()
+                .mapToInt(DFDGDPRTransposeFlowGraph::getStateCount)
+                .sum());
+        assertEquals(alternateFlowGraphCount - transposeFlowGraphs.size(), deduplicatedFlowGraphs.getStateStatistics()
+                .getDuplicateFlowGraphs());
+        assertEquals(transposeFlowGraphs.size(), transposeFlowGraphs.stream()
+                .map(DFDGDPRTransposeFlowGraph::getSignature)
+                .distinct()
+                .count());
+
+        AtomicLong streamedFlowGraphs = new AtomicLong();
+        ContextAttributeStateStatistics streamingStatistics = ((DFDGDPRFlowGraphCollection) deduplicatingAnalysis.findFlowGraphs())
+                .resolveAndEvaluate(it -> streamedFlowGraphs.incrementAndGet());
+        assertEquals(alternateFlowGraphCount, streamedFlowGraphs.get());
+        assertEquals(0, streamingStatistics.getDuplicateFlowGraphs());
+
+        List<DFDGDPRTransposeFlowGraph> snapshotFlowGraphs = deduplicatingAnalysis.analyze()
+                .getFlowGraphs()
+                .getTransposeFlowGraphs()
+                .stream()
+                .map(DFDGDPRTransposeFlowGraph.class::cast)
+                .toList();
+        assertEquals(transposeFlowGraphs.size(), snapshotFlowGraphs.size());
+        assertEquals(alternateFlowGraphCount, snapshotFlowGraphs.stream()
+                .mapToInt(DFDGDPRTransposeFlowGraph::getStateCount)
+                .sum());
+    }
+}
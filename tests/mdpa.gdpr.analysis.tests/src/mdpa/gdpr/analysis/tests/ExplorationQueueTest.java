@@ -0,0 +1,16 @@
+package mdpa.gdpr.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import mdpa.gdpr.analysis.GDPRLegalAssessmentAnalysis;
+import org.junit.jupiter.api.Test;
+
+public class ExplorationQueueTest extends TrainModelTest {
+    @Test
+    public void testExplorationQueueCapacity() {
+        GDPRLegalAssessmentAnalysis restartingAnalysis = this.createAnalysis(it -> it.explorationQueueCapacity(0));
+
+        assertEquals(this.getCharacteristics(this.resolveAndEvaluate(this.analysis)),
+                this.getCharacteristics(this.resolveAndEvaluate(restartingAnalysis)));
+    }
+}
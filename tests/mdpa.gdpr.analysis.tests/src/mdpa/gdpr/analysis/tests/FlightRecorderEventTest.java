@@ -0,0 +1,50 @@
+package mdpa.gdpr.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import mdpa.gdpr.analysis.GDPRLegalAssessmentAnalysis;
+import mdpa.gdpr.analysis.dfd.DFDGDPRFlowGraphCollection;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FlightRecorderEventTest extends TrainModelTest {
+    @Test
+    public void testFlightRecorderEvents(@TempDir Path recordingDirectory) throws IOException {
+        Path recordingFile = recordingDirectory.resolve("analysis.jfr");
+        try (Recording recording = new Recording()) {
+            Stream.of("Transformation", "FlowGraphResolution", "ScenarioApplication", "Evaluation", "Query")
+                    .forEach(eventName -> recording.enable("mdpa.gdpr.analysis." + eventName));
+            recording.start();
+            GDPRLegalAssessmentAnalysis recordedAnalysis = this.createAnalysis(UnaryOperator.identity());
+            recordedAnalysis.queryDataFlow((DFDGDPRFlowGraphCollection) recordedAnalysis.findFlowGraphs(), it -> false, (flowGraph, violations) -> {
+            });
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        Map<String, Long> eventCounts = events.stream()
+                .collect(Collectors.groupingBy(it -> it.getEventType()
+                        .getName(), Collectors.counting()));
+        assertEquals(1, eventCounts.get("mdpa.gdpr.analysis.Transformation"));
+        assertTrue(eventCounts.get("mdpa.gdpr.analysis.FlowGraphResolution") > 0);
+        assertTrue(eventCounts.get("mdpa.gdpr.analysis.ScenarioApplication") > 0);
+        assertEquals(eventCounts.get("mdpa.gdpr.analysis.Evaluation"), eventCounts.get("mdpa.gdpr.analysis.Query"));
+        assertTrue(events.stream()
+                .filter(it -> it.getEventType()
+                        .getName()
+                        .equals("mdpa.gdpr.analysis.Evaluation"))
+                .allMatch(it -> "default".equals(it.getString("modelName")) && it.getInt("vertexCount") > 0));
+    }
+}
@@ -0,0 +1,101 @@
+package mdpa.gdpr.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import mdpa.gdpr.analysis.core.ModelChangeRecorder;
+import mdpa.gdpr.analysis.dfd.AnalysisSnapshot;
+import mdpa.gdpr.analysis.dfd.DFDGDPRTransposeFlowGraph;
+import mdpa.gdpr.analysis.dfd.DFDGDPRVertex;
+import mdpa.gdpr.metamodel.GDPR.AbstractGDPRElement;
+import mdpa.gdpr.metamodel.GDPR.Processing;
+import mdpa.gdpr.metamodel.contextproperties.SAFAnnotation;
+import org.junit.jupiter.api.Test;
+
+public class IncrementalReanalysisTest extends TrainModelTest {
+    @Test
+    public void testIncrementalReanalysis() {
+        AnalysisSnapshot snapshot = this.analysis.analyze();
+        assertEquals(3, snapshot.getReanalyzedFlowGraphs());
+        List<String> characteristics = this.getCharacteristics(snapshot.getFlowGraphs());
+
+        AnalysisSnapshot unchangedSnapshot = this.analysis.reanalyze(snapshot, List.of());
+        assertEquals(3, unchangedSnapshot.getReusedFlowGraphs());
+        assertEquals(0, unchangedSnapshot.getReanalyzedFlowGraphs());
+        assertEquals(characteristics, this.getCharacteristics(unchangedSnapshot.getFlowGraphs()));
+
+        DFDGDPRVertex sink = (DFDGDPRVertex) snapshot.getFlowGraphs()
+                .getTransposeFlowGraphs()
+                .get(0)
+                .getSink();
+        AbstractGDPRElement changedElement = sink.getRelatedElements()
+                .get(0);
+        AnalysisSnapshot changedSnapshot = this.analysis.reanalyze(unchangedSnapshot, List.of(changedElement));
+        assertTrue(changedSnapshot.getReanalyzedFlowGraphs() > 0);
+        assertEquals(3, changedSnapshot.getReusedFlowGraphs() + changedSnapshot.getReanalyzedFlowGraphs());
+        assertEquals(characteristics.stream()
+                .sorted()
+                .toList(),
+                this.getCharacteristics(changedSnapshot.getFlowGraphs())
+                        .stream()
+                        .sorted()
+                        .toList());
+    }
+
+    @Test
+    public void testRecordedModelChanges() {
+        AnalysisSnapshot snapshot = this.analysis.analyze();
+        List<String> characteristics = this.getCharacteristics(snapshot.getFlowGraphs());
+        Processing processing = snapshot.getFlowGraphs()
+                .getTransposeFlowGraphs()
+                .stream()
+                .flatMap(it -> it.getVertices()
+                        .stream())
+                .map(DFDGDPRVertex.class::cast)
+                .flatMap(it -> it.getRelatedElements()
+                        .stream())
+                .filter(Processing.class::isInstance)
+                .map(Processing.class::cast)
+                .filter(it -> "TrainStoreCustomerData".equals(it.getEntityName()))
+                .findFirst()
+                .orElseThrow();
+        SAFAnnotation annotation = snapshot.getFlowGraphs()
+                .getTransposeFlowGraphs()
+                .stream()
+                .map(it -> ((DFDGDPRTransposeFlowGraph) it).getContextAttributeState())
+                .flatMap(it -> it.selectedScenarios()
+                        .stream())
+                .map(it -> it.getContextDependentAttributeSource()
+                        .getAnnotation())
+                .filter(it -> "CustomerIdentifiability".equals(it.getEntityName()))
+                .findFirst()
+                .orElseThrow();
+
+        ModelChangeRecorder changeRecorder = this.analysis.recordModelChanges();
+        processing.setEntityName("TrainArchiveCustomerData");
+        assertTrue(changeRecorder.getChangedElements()
+                .contains(processing));
+        AnalysisSnapshot renamedSnapshot = this.analysis.reanalyze(snapshot, changeRecorder);
+        assertTrue(changeRecorder.getChangedElements()
+                .isEmpty());
+        assertEquals(2, renamedSnapshot.getReusedFlowGraphs());
+        assertEquals(1, renamedSnapshot.getReanalyzedFlowGraphs());
+        List<String> renamedCharacteristics = this.getSortedCharacteristics(renamedSnapshot.getFlowGraphs());
+        assertEquals(this.getSortedCharacteristics(this.analysis.analyze()
+                .getFlowGraphs()), renamedCharacteristics);
+
+        annotation.getScopeSet()
+                .remove(0);
+        AnalysisSnapshot changedSnapshot = this.analysis.reanalyze(renamedSnapshot, changeRecorder);
+        changeRecorder.dispose();
+        assertTrue(changedSnapshot.getReanalyzedFlowGraphs() > 0);
+        List<String> changedCharacteristics = this.getSortedCharacteristics(changedSnapshot.getFlowGraphs());
+        assertEquals(this.getSortedCharacteristics(this.analysis.analyze()
+                .getFlowGraphs()), changedCharacteristics);
+        assertNotEquals(characteristics.stream()
+                .sorted()
+                .toList(), changedCharacteristics);
+    }
+}
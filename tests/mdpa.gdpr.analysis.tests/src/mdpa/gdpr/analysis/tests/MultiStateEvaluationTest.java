@@ -0,0 +1,114 @@
+package mdpa.gdpr.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import mdpa.gdpr.analysis.core.ContextAttributeState;
+import mdpa.gdpr.analysis.dfd.DFDGDPRFlowGraphCollection;
+import mdpa.gdpr.analysis.dfd.DFDGDPRTransposeFlowGraph;
+import mdpa.gdpr.analysis.dfd.DFDGDPRVertex;
+import mdpa.gdpr.analysis.dfd.MultiStateEvaluation;
+import org.dataflowanalysis.analysis.core.AbstractVertex;
+import org.junit.jupiter.api.Test;
+
+public class MultiStateEvaluationTest extends TrainModelTest {
+    @Test
+    public void testMultiStateEvaluation() {
+        Predicate<AbstractVertex<?>> constraint = it -> this.hasVertexCharacteristic((DFDGDPRVertex) it, "Transparency", "False")
+                || this.hasVertexCharacteristic((DFDGDPRVertex) it, "ThirdParty", "Marketing")
+                        && this.hasDataCharacteristic((DFDGDPRVertex) it, "Identifiability", "True");
+        DFDGDPRFlowGraphCollection flowGraphs = (DFDGDPRFlowGraphCollection) this.analysis.findFlowGraphs();
+        List<DFDGDPRTransposeFlowGraph> alternateFlowGraphs = flowGraphs.resolveContextDependentAttributes()
+                .getTransposeFlowGraphs()
+                .stream()
+                .map(DFDGDPRTransposeFlowGraph.class::cast)
+                .toList();
+        Set<ContextAttributeState> expectedStates = new HashSet<>();
+        Map<ContextAttributeState, DFDGDPRTransposeFlowGraph> evaluatedFlowGraphs = new HashMap<>();
+        for (DFDGDPRTransposeFlowGraph alternateFlowGraph : alternateFlowGraphs) {
+            DFDGDPRTransposeFlowGraph evaluatedFlowGraph = (DFDGDPRTransposeFlowGraph) alternateFlowGraph.evaluate();
+            evaluatedFlowGraph.getContextAttributeStates()
+                    .forEach(it -> evaluatedFlowGraphs.put(it, evaluatedFlowGraph));
+            if (!this.analysis.queryDataFlow(evaluatedFlowGraph, constraint)
+                    .isEmpty()) {
+                expectedStates.addAll(evaluatedFlowGraph.getContextAttributeStates());
+            }
+        }
+
+        List<MultiStateEvaluation> evaluations = flowGraphs.evaluateStates();
+        assertEquals(flowGraphs.getTransposeFlowGraphs()
+                .size(), evaluations.size());
+        assertEquals(alternateFlowGraphs.size(), evaluations.stream()
+                .mapToInt(it -> it.getContextAttributeStates()
+                        .size())
+                .sum());
+        assertTrue(evaluations.stream()
+                .filter(it -> it.getContextAttributeStates()
+                        .size() > 1)
+                .anyMatch(it -> it.getVertices()
+                        .size() < it.getEvaluatedFlowGraphs()
+                                .stream()
+                                .mapToInt(flowGraph -> flowGraph.getVertices()
+                                        .size())
+                                .sum()));
+
+        for (MultiStateEvaluation evaluation : evaluations) {
+            List<ContextAttributeState> states = evaluation.getContextAttributeStates();
+            for (DFDGDPRVertex vertex : evaluation.getVertices()) {
+                String nodeId = vertex.getReferencedElement()
+                        .getId();
+                BitSet expectedVertexStates = new BitSet();
+                for (int index = 0; index < states.size(); index++) {
+                    expectedVertexStates.set(index, this.getVerticesOfNode(evaluatedFlowGraphs.get(states.get(index)), nodeId)
+                            .anyMatch(it -> this.hasVertexCharacteristic(it, "Transparency", "False")));
+                }
+                assertEquals(expectedVertexStates, evaluation.getVertexCharacteristicStates(nodeId, "Transparency", "False"));
+
+                for (String variableName : vertex.getAllDataCharacteristics()
+                        .stream()
+                        .map(it -> it.getVariableName())
+                        .distinct()
+                        .toList()) {
+                    BitSet expectedDataStates = new BitSet();
+                    for (int index = 0; index < states.size(); index++) {
+                        expectedDataStates.set(index, this.getVerticesOfNode(evaluatedFlowGraphs.get(states.get(index)), nodeId)
+                                .flatMap(it -> it.getAllDataCharacteristics()
+                                        .stream())
+                                .filter(it -> it.getVariableName()
+                                        .equals(variableName))
+                                .anyMatch(it -> it.getCharacteristicsWithName("Identifiability")
+                                        .stream()
+                                        .anyMatch(value -> value.getValueName()
+                                                .equals("True"))));
+                    }
+                    assertEquals(expectedDataStates, evaluation.getDataCharacteristicStates(nodeId, variableName, "Identifiability", "True"));
+                }
+            }
+        }
+
+        Set<ContextAttributeState> violatingStates = this.analysis.findViolatingStates(flowGraphs, constraint)
+                .values()
+                .stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toSet());
+        assertEquals(expectedStates, violatingStates);
+    }
+
+    private Stream<DFDGDPRVertex> getVerticesOfNode(DFDGDPRTransposeFlowGraph transposeFlowGraph, String nodeId) {
+        return transposeFlowGraph.getVertices()
+                .stream()
+                .map(DFDGDPRVertex.class::cast)
+                .filter(it -> it.getReferencedElement()
+                        .getId()
+                        .equals(nodeId));
+    }
+}
@@ -0,0 +1,36 @@
+package mdpa.gdpr.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import mdpa.gdpr.analysis.GDPRLegalAssessmentAnalysis;
+import mdpa.gdpr.analysis.dfd.DFDGDPRFlowGraphCollection;
+import mdpa.gdpr.analysis.dfd.DFDGDPRTransposeFlowGraph;
+import org.junit.jupiter.api.Test;
+
+public class ParallelAnalysisTest extends TrainModelTest {
+    @Test
+    public void testParallelResolution() {
+        List<String> sequentialStates = this.getStates(this.resolve(this.analysis));
+
+        GDPRLegalAssessmentAnalysis parallelAnalysis = this.createAnalysis(it -> it.parallelism(4));
+        assertEquals(sequentialStates, this.getStates(this.resolve(parallelAnalysis)));
+    }
+
+    @Test
+    public void testParallelEvaluation() {
+        DFDGDPRFlowGraphCollection alternateFlowGraphs = this.resolve(this.analysis);
+        DFDGDPRFlowGraphCollection parallelFlowGraphs = alternateFlowGraphs.evaluateParallel(4);
+        alternateFlowGraphs.evaluate();
+
+        assertEquals(this.getCharacteristics(alternateFlowGraphs), this.getCharacteristics(parallelFlowGraphs));
+    }
+
+    private List<String> getStates(DFDGDPRFlowGraphCollection alternateFlowGraphs) {
+        return alternateFlowGraphs.getTransposeFlowGraphs()
+                .stream()
+                .map(it -> ((DFDGDPRTransposeFlowGraph) it).getContextAttributeState()
+                        .toString())
+                .toList();
+    }
+}
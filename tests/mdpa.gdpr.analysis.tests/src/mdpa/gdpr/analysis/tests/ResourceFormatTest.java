@@ -0,0 +1,78 @@
+package mdpa.gdpr.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import mdpa.gdpr.analysis.GDPRLegalAssessmentAnalysis;
+import mdpa.gdpr.analysis.resource.DataFlowDiagramAndDataDictionary;
+import mdpa.gdpr.analysis.resource.GDPRURIResourceProvider;
+import mdpa.gdpr.analysis.resource.ResourceFormat;
+import mdpa.gdpr.analysis.resource.ResourceFormatConverter;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.URIConverter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ResourceFormatTest extends TrainModelTest {
+    @Test
+    public void testBinaryModels(@TempDir Path modelDirectory) throws IOException {
+        List<Path> binaryModels = ResourceFormatConverter.convert(
+                List.of(MODEL_DIRECTORY.resolve("default.gdpr"), MODEL_DIRECTORY.resolve("default.contextproperties")), modelDirectory,
+                ResourceFormat.BINARY);
+        for (Path binaryModel : binaryModels) {
+            assertEquals(ResourceFormat.BINARY, ResourceFormat.detect(URIConverter.INSTANCE, URI.createFileURI(binaryModel.toString())));
+        }
+
+        GDPRLegalAssessmentAnalysis binaryAnalysis = this.createAnalysis(it -> it.useCustomResourceProvider(new GDPRURIResourceProvider(
+                URI.createFileURI(binaryModels.get(0)
+                        .toString()),
+                URI.createFileURI(binaryModels.get(1)
+                        .toString()))));
+        assertEquals(this.getCharacteristics(this.resolveAndEvaluate(this.analysis)),
+                this.getCharacteristics(this.resolveAndEvaluate(binaryAnalysis)));
+    }
+
+    @Test
+    public void testSaveAndLoadTransformation(@TempDir Path outputDirectory) {
+        GDPRURIResourceProvider resourceProvider = new GDPRURIResourceProvider(URI.createFileURI(MODEL_DIRECTORY.resolve("default.gdpr")
+                .toAbsolutePath()
+                .toString()),
+                URI.createFileURI(MODEL_DIRECTORY.resolve("default.contextproperties")
+                        .toAbsolutePath()
+                        .toString()));
+        resourceProvider.setupResources();
+        resourceProvider.loadRequiredResources();
+
+        for (ResourceFormat format : ResourceFormat.values()) {
+            DataFlowDiagramAndDataDictionary transformation = resourceProvider.getTransformationManager()
+                    .transform(resourceProvider.getGDPRModel(), resourceProvider.getScopeDependentAssessmentFacts());
+            transformation.save(outputDirectory.toString(), format.name(), format);
+            assertEquals(format, ResourceFormat.detect(URIConverter.INSTANCE, URI.createFileURI(outputDirectory.resolve(format.name() + "."
+                    + DataFlowDiagramAndDataDictionary.DATA_FLOW_DIAGRAM_EXTENSION)
+                    .toString())));
+
+            DataFlowDiagramAndDataDictionary loadedTransformation = DataFlowDiagramAndDataDictionary.load(outputDirectory.toString(),
+                    format.name());
+            assertEquals(transformation.dataFlowDiagram()
+                    .getNodes()
+                    .size(),
+                    loadedTransformation.dataFlowDiagram()
+                            .getNodes()
+                            .size());
+            assertEquals(transformation.dataFlowDiagram()
+                    .getFlows()
+                    .size(),
+                    loadedTransformation.dataFlowDiagram()
+                            .getFlows()
+                            .size());
+            assertEquals(transformation.dataDictionary()
+                    .getLabelTypes()
+                    .size(),
+                    loadedTransformation.dataDictionary()
+                            .getLabelTypes()
+                            .size());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package mdpa.gdpr.analysis.tests;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import mdpa.gdpr.analysis.GDPRLegalAssessmentAnalysis;
+import mdpa.gdpr.analysis.GDPRLegalAssessmentAnalysisBuilder;
+import mdpa.gdpr.analysis.dfd.DFDGDPRFlowGraphCollection;
+import mdpa.gdpr.analysis.dfd.DFDGDPRVertex;
+import mdpa.gdpr.analysis.tests.validation.ValidationBase;
+
+public abstract class TrainModelTest extends ValidationBase {
+    protected static final Path MODEL_DIRECTORY = Paths.get("..", BaseTest.TEST_MODEL_PROJECT_NAME, "models", "TrainModel");
+
+    protected TrainModelTest() {
+        super("default", "models/TrainModel");
+    }
+
+    protected GDPRLegalAssessmentAnalysis createAnalysis(UnaryOperator<GDPRLegalAssessmentAnalysisBuilder> configuration) {
+        GDPRLegalAssessmentAnalysis analysis = configuration.apply(this.createAnalysisBuilder())
+                .build();
+        analysis.initializeAnalysis();
+        return analysis;
+    }
+
+    protected DFDGDPRFlowGraphCollection resolve(GDPRLegalAssessmentAnalysis analysis) {
+        return ((DFDGDPRFlowGraphCollection) analysis.findFlowGraphs()).resolveContextDependentAttributes();
+    }
+
+    protected DFDGDPRFlowGraphCollection resolveAndEvaluate(GDPRLegalAssessmentAnalysis analysis) {
+        DFDGDPRFlowGraphCollection alternateFlowGraphs = this.resolve(analysis);
+        alternateFlowGraphs.evaluate();
+        return alternateFlowGraphs;
+    }
+
+    protected List<String> getSortedCharacteristics(DFDGDPRFlowGraphCollection flowGraphs) {
+        return this.getCharacteristics(flowGraphs)
+                .stream()
+                .sorted()
+                .toList();
+    }
+
+    protected List<String> getCharacteristics(DFDGDPRFlowGraphCollection flowGraphs) {
+        return flowGraphs.getTransposeFlowGraphs()
+                .stream()
+                .flatMap(it -> it.getVertices()
+                        .stream())
+                .map(DFDGDPRVertex.class::cast)
+                .map(vertex -> vertex.getName() + ": " + vertex.getAllDataCharacteristics()
+                        .stream()
+                        .flatMap(dc -> dc.getAllCharacteristics()
+                                .stream()
+                                .map(ch -> dc.getVariableName() + "." + ch.getTypeName() + "." + ch.getValueName()))
+                        .sorted()
+                        .toList() + " "
+                        + vertex.getAllVertexCharacteristics()
+                                .stream()
+                                .map(ch -> ch.getTypeName() + "." + ch.getValueName())
+                                .sorted()
+                                .toList())
+                .toList();
+    }
+}
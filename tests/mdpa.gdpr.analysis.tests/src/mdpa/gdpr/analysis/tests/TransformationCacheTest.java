@@ -0,0 +1,44 @@
+package mdpa.gdpr.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import mdpa.gdpr.analysis.GDPRLegalAssessmentAnalysis;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TransformationCacheTest extends TrainModelTest {
+    @Test
+    public void testTransformationCache(@TempDir Path temporaryDirectory) throws IOException {
+        Path cacheDirectory = temporaryDirectory.resolve("cache");
+        Path recordingFile = temporaryDirectory.resolve("transformation.jfr");
+        List<String> characteristics = this.getCharacteristics(this.resolveAndEvaluate(this.analysis));
+
+        try (Recording recording = new Recording()) {
+            recording.enable("mdpa.gdpr.analysis.Transformation");
+            recording.start();
+            for (int run = 0; run < 2; run++) {
+                GDPRLegalAssessmentAnalysis cachingAnalysis = this.createAnalysis(it -> it.useTransformationCache(cacheDirectory));
+                assertEquals(characteristics, this.getCharacteristics(this.resolveAndEvaluate(cachingAnalysis)));
+            }
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        try (Stream<Path> entries = Files.list(cacheDirectory)) {
+            assertEquals(1, entries.count());
+        }
+        assertEquals(List.of(false, true), RecordingFile.readAllEvents(recordingFile)
+                .stream()
+                .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+                .map(it -> it.getBoolean("cached"))
+                .toList());
+    }
+}
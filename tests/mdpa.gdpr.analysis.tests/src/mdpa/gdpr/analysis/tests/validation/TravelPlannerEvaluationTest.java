@@ -1,8 +1,13 @@
 package mdpa.gdpr.analysis.tests.validation;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import mdpa.gdpr.analysis.GDPRAnalysisEnvironment;
+import mdpa.gdpr.analysis.GDPRLegalAssessmentAnalysis;
 import mdpa.gdpr.analysis.core.ContextDependentAttributeScenario;
+import mdpa.gdpr.analysis.core.Violation;
 import mdpa.gdpr.analysis.dfd.DFDGDPRFlowGraphCollection;
 import mdpa.gdpr.analysis.dfd.DFDGDPRTransposeFlowGraph;
 import mdpa.gdpr.analysis.dfd.DFDGDPRVertex;
@@ -12,6 +17,8 @@ import org.dataflowanalysis.dfd.dataflowdiagram.Node;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TravelPlannerEvaluationTest extends ValidationBase {
     private final Logger logger = LoggerManager.getLogger(TrainModelEvaluationTest.class);
@@ -127,4 +134,50 @@ public class TravelPlannerEvaluationTest extends ValidationBase {
         }
         assertEquals(1, violatingFlowGraphCount);
     }
+
+    @Test
+    public void testStreamingViolations() {
+        DFDGDPRFlowGraphCollection flowGraphs = (DFDGDPRFlowGraphCollection) this.analysis.findFlowGraphs();
+
+        AtomicInteger flowGraphCount = new AtomicInteger();
+        AtomicInteger violatingFlowGraphCount = new AtomicInteger();
+        this.analysis.queryDataFlow(flowGraphs, it -> this.hasDataCharacteristic((DFDGDPRVertex) it, "Necessary", "False"),
+                (flowGraph, violations) -> {
+                    flowGraphCount.incrementAndGet();
+                    if (!violations.isEmpty()) {
+                        violatingFlowGraphCount.incrementAndGet();
+                    }
+                });
+        assertEquals(2, flowGraphCount.get());
+        assertEquals(1, violatingFlowGraphCount.get());
+    }
+
+    @Test
+    public void testFindViolations() {
+        DFDGDPRFlowGraphCollection flowGraphs = (DFDGDPRFlowGraphCollection) this.analysis.findFlowGraphs();
+
+        Optional<Violation> violation = this.analysis.findFirstViolation(flowGraphs,
+                it -> this.hasDataCharacteristic((DFDGDPRVertex) it, "Necessary", "False"));
+        assertTrue(violation.isPresent());
+        assertFalse(violation.get()
+                .violatingVertices()
+                .isEmpty());
+
+        List<Violation> violations = this.analysis.findViolations(flowGraphs,
+                it -> this.hasDataCharacteristic((DFDGDPRVertex) it, "Necessary", "False"), 5);
+        assertEquals(1, violations.size());
+    }
+
+    @Test
+    public void testSharedEnvironment() {
+        assertTrue(GDPRAnalysisEnvironment.isInitialized());
+        for (int run = 0; run < 3; run++) {
+            GDPRLegalAssessmentAnalysis analysis = this.createAnalysisBuilder()
+                    .build();
+            analysis.initializeAnalysis();
+            assertEquals(1, analysis.findFlowGraphs()
+                    .getTransposeFlowGraphs()
+                    .size());
+        }
+    }
 }
@@ -26,13 +26,17 @@ public class ValidationBase {
 
     @BeforeEach
     public void loadModel() {
-        analysis = new GDPRLegalAssessmentAnalysisBuilder().standalone()
+        analysis = this.createAnalysisBuilder()
+                .build();
+        analysis.initializeAnalysis();
+    }
+
+    protected GDPRLegalAssessmentAnalysisBuilder createAnalysisBuilder() {
+        return new GDPRLegalAssessmentAnalysisBuilder().standalone()
                 .modelProjectName("mdpa.gdpr.analysis.testmodels")
                 .usePluginActivator(Activator.class)
                 .useGDPRModel(modelFolder + "/" + modelName + ".gdpr")
-                .useProperties(modelFolder + "/" + modelName + ".contextproperties")
-                .build();
-        analysis.initializeAnalysis();
+                .useProperties(modelFolder + "/" + modelName + ".contextproperties");
     }
 
     private boolean isImpacted(DFDGDPRVertex vertex, List<ContextDependentAttributeScenario> impactScenarios) {